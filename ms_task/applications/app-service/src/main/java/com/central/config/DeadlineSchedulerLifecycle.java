@@ -0,0 +1,79 @@
+package com.central.config;
+
+import com.central.usecase.task.deadline.DeadlineScheduler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * Conduce el {@link DeadlineScheduler}: carga inicial desde el punto de control, un tick por
+ * {@code tick} y una recarga de la ventana por {@code refill-interval}. Como el relay del outbox,
+ * {@code enabled} solo decide el arranque automático para que el interruptor sobreviva al
+ * procesamiento AOT.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DeadlineSchedulerLifecycle implements SmartLifecycle {
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(5);
+
+    private final DeadlineScheduler scheduler;
+    private final DeadlineSchedulerProperties properties;
+    private volatile Disposable loop;
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public void start() {
+        Flux<Long> ticks = Flux.interval(properties.getTick())
+                .onBackpressureDrop()
+                .concatMap(tick -> scheduler.fireDue()
+                        .onErrorResume(e -> {
+                            log.warn("No fue posible disparar los vencimientos: {}", e.getMessage());
+                            return Mono.empty();
+                        }), 1);
+        Flux<Void> refills = Flux.interval(properties.getRefillInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> scheduler.refill()
+                        .onErrorResume(e -> {
+                            log.warn("No fue posible recargar la ventana de vencimientos: {}", e.getMessage());
+                            return Mono.empty();
+                        }), 1);
+        loop = scheduler.start()
+                .doOnError(e -> log.warn("Carga inicial de vencimientos fallida, se reintenta: {}", e.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, properties.getTick()).maxBackoff(properties.getRefillInterval()))
+                .doOnSuccess(ignored -> log.info("Planificador de vencimientos activo con {} eventos pendientes",
+                        scheduler.pending()))
+                .thenMany(Flux.merge(ticks, refills))
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = loop;
+        if (current != null) {
+            current.dispose();
+        }
+        loop = null;
+        if (scheduler.isActive()) {
+            try {
+                scheduler.stop().block(STOP_TIMEOUT);
+            } catch (RuntimeException e) {
+                log.warn("No fue posible guardar el punto de control de vencimientos: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return loop != null && !loop.isDisposed();
+    }
+}
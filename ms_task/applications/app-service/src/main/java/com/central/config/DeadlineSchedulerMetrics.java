@@ -0,0 +1,42 @@
+package com.central.config;
+
+import com.central.model.task.DeadlineKind;
+import com.central.usecase.task.deadline.DeadlineScheduler;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica el estado del {@link DeadlineScheduler}: eventos en la rueda, publicados por tipo,
+ * descartados al verificar y atraso respecto del reloj.
+ */
+@RequiredArgsConstructor
+public class DeadlineSchedulerMetrics implements MeterBinder {
+    private final DeadlineScheduler scheduler;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("deadlines.pending", scheduler, DeadlineScheduler::pending)
+                .description("Eventos de vencimiento programados en la rueda")
+                .register(registry);
+        for (DeadlineKind kind : DeadlineKind.values()) {
+            FunctionCounter.builder("deadlines.fired", scheduler, s -> s.fired(kind))
+                    .tag("kind", kind.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+        FunctionCounter.builder("deadlines.discarded", scheduler, DeadlineScheduler::discarded)
+                .description("Eventos descartados porque la tarea se cerró, se borró o se reprogramó")
+                .register(registry);
+        FunctionCounter.builder("deadlines.publish.failures", scheduler, DeadlineScheduler::publishFailures)
+                .register(registry);
+        TimeGauge.builder("deadlines.lag", scheduler, TimeUnit.MILLISECONDS, DeadlineScheduler::lagMillis)
+                .description("Atraso entre el reloj y el último instante con todo publicado")
+                .register(registry);
+    }
+}
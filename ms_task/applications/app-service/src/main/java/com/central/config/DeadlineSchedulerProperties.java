@@ -0,0 +1,32 @@
+package com.central.config;
+
+import com.central.usecase.task.deadline.DeadlineSettings;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "usecase.deadlines")
+public class DeadlineSchedulerProperties {
+    /** Activa el planificador; debe correr en una sola instancia, como el relay del outbox. */
+    private boolean enabled = false;
+    /** Resolución de la rueda de tiempo. */
+    private Duration tick = Duration.ofSeconds(1);
+    /** Ventana de vencimientos en memoria; debe superar reminder-lead más refill-interval. */
+    private Duration horizon = Duration.ofHours(1);
+    /** Cada cuánto se relee la ventana y se guarda el punto de control. */
+    private Duration refillInterval = Duration.ofMinutes(1);
+    /** Anticipación del aviso previo al vencimiento; 0 lo desactiva. */
+    private Duration reminderLead = Duration.ofMinutes(15);
+    /** Eventos por lote verificado contra la base y publicado. */
+    private int maxBatchSize = 500;
+
+    public DeadlineSettings toSettings() {
+        // Un aviso debe quedar cargado antes de que le toque salir, aun con la recarga en curso
+        if (horizon.compareTo(reminderLead.plus(refillInterval)) <= 0) {
+            throw new IllegalArgumentException("usecase.deadlines.horizon debe superar reminder-lead + refill-interval");
+        }
+        return new DeadlineSettings(tick, horizon, reminderLead, maxBatchSize);
+    }
+}
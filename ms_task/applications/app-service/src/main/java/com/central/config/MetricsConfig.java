@@ -0,0 +1,14 @@
+package com.central.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public UseCaseMetricsAspect useCaseMetricsAspect(MeterRegistry meterRegistry) {
+        return new UseCaseMetricsAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.central.config;
+
+import com.central.usecase.task.batch.TaskBatchLoader;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publica cuántas lecturas por id recibió el {@link TaskBatchLoader}, cuántas consultas emitió y la
+ * reducción resultante. El tamaño de cada lote se registra aparte en {@code task.loader.batch.size}.
+ */
+@RequiredArgsConstructor
+public class TaskBatchLoaderMetrics implements MeterBinder {
+    private final TaskBatchLoader loader;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("task.loader.requests", loader, l -> l.stats().requests())
+                .description("Lecturas por id recibidas")
+                .register(registry);
+        FunctionCounter.builder("task.loader.coalesced", loader, l -> l.stats().coalesced())
+                .description("Lecturas que compartieron el resultado de otra del mismo id en el mismo lote")
+                .register(registry);
+        FunctionCounter.builder("task.loader.queries", loader, l -> l.stats().batches())
+                .description("Consultas emitidas, una por lote")
+                .register(registry);
+        FunctionCounter.builder("task.loader.queries.failed", loader, l -> l.stats().failedBatches())
+                .register(registry);
+        Gauge.builder("task.loader.query.reduction", loader, l -> l.stats().queryReduction())
+                .description("Fracción de lecturas que no generó una consulta propia")
+                .register(registry);
+    }
+}
@@ -0,0 +1,20 @@
+package com.central.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "usecase.task-batching")
+public class TaskBatchingProperties {
+    /**
+     * Agrupa las lecturas por id de los casos de uso en consultas {@code id = ANY(...)}. Apagado por defecto:
+     * con poca concurrencia no hay lecturas que juntar y la ventana solo suma latencia.
+     */
+    private boolean enabled = false;
+    /** Espera máxima desde la primera lectura de un lote; suma esa latencia a cada lectura que llega a la base. */
+    private Duration window = Duration.ofMillis(2);
+    /** Ids distintos que cierran el lote sin esperar la ventana. */
+    private int maxBatchSize = 100;
+}
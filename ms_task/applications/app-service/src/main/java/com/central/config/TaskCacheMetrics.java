@@ -0,0 +1,41 @@
+package com.central.config;
+
+import com.central.usecase.task.cache.TaskCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publica las estadísticas del {@link TaskCache} con los nombres estándar de Micrometer para
+ * cachés (cache.gets, cache.evictions, cache.size).
+ */
+@RequiredArgsConstructor
+public class TaskCacheMetrics implements MeterBinder {
+    private static final String CACHE_NAME = "task";
+
+    private final TaskCache cache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", cache, c -> c.stats().hits())
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, c -> c.stats().misses())
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.loads.coalesced", cache, c -> c.stats().coalescedLoads())
+                .tag("cache", CACHE_NAME)
+                .description("Lecturas que reutilizaron una carga en curso del mismo id")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, c -> c.stats().evictions())
+                .tag("cache", CACHE_NAME)
+                .register(registry);
+        Gauge.builder("cache.size", cache, TaskCache::size)
+                .tag("cache", CACHE_NAME)
+                .register(registry);
+    }
+}
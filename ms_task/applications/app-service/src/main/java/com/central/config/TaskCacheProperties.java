@@ -0,0 +1,13 @@
+package com.central.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "usecase.task-cache")
+public class TaskCacheProperties {
+    private int maxSize = 10_000;
+    private Duration ttl = Duration.ofSeconds(30);
+}
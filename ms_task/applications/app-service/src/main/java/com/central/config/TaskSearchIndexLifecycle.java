@@ -0,0 +1,75 @@
+package com.central.config;
+
+import com.central.usecase.task.search.TaskSearchUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * Arma el índice de búsqueda al arrancar, reintentando con backoff si la base no responde, y lo
+ * rearma cada {@code refresh-interval} si está configurado. Como los demás procesos de fondo,
+ * {@code enabled} solo decide el arranque automático para que sobreviva al procesamiento AOT.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TaskSearchIndexLifecycle implements SmartLifecycle {
+    private static final Duration MIN_RETRY_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(30);
+
+    private final TaskSearchUseCase taskSearchUseCase;
+    private final TaskSearchProperties properties;
+    private volatile Disposable loop;
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public void start() {
+        Duration refreshInterval = properties.getRefreshInterval();
+        Flux<Long> refreshes = refreshInterval == null || refreshInterval.isZero()
+                ? Flux.empty()
+                : Flux.interval(refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> rebuild()
+                        .onErrorResume(e -> {
+                            log.warn("No fue posible rearmar el índice de búsqueda: {}", e.getMessage());
+                            return Mono.empty();
+                        }), 1);
+        loop = rebuild()
+                .doOnError(e -> log.warn("Carga inicial del índice de búsqueda fallida, se reintenta: {}", e.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_RETRY_BACKOFF).maxBackoff(MAX_RETRY_BACKOFF))
+                .thenMany(refreshes)
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = loop;
+        if (current != null) {
+            current.dispose();
+        }
+        loop = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return loop != null && !loop.isDisposed();
+    }
+
+    private Mono<Long> rebuild() {
+        long startedAt = System.nanoTime();
+        return Mono.defer(taskSearchUseCase::rebuild)
+                .doOnSuccess(loaded -> log.info("Índice de búsqueda armado con {} tareas y {} términos en {} ms (~{} KiB)",
+                        loaded, taskSearchUseCase.distinctTerms(),
+                        Duration.ofNanos(System.nanoTime() - startedAt).toMillis(),
+                        taskSearchUseCase.estimatedBytes() / 1024));
+    }
+}
@@ -0,0 +1,30 @@
+package com.central.config;
+
+import com.central.usecase.task.search.TaskSearchUseCase;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publica el tamaño del índice de búsqueda: tareas, términos distintos y memoria estimada.
+ */
+@RequiredArgsConstructor
+public class TaskSearchMetrics implements MeterBinder {
+    private final TaskSearchUseCase taskSearchUseCase;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("task.search.documents", taskSearchUseCase, TaskSearchUseCase::documents)
+                .description("Tareas en el índice de búsqueda")
+                .register(registry);
+        Gauge.builder("task.search.terms", taskSearchUseCase, TaskSearchUseCase::distinctTerms)
+                .description("Términos distintos del índice de búsqueda")
+                .register(registry);
+        Gauge.builder("task.search.index.size", taskSearchUseCase, TaskSearchUseCase::estimatedBytes)
+                .description("Memoria estimada de listas de posiciones y bitmaps del índice")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+    }
+}
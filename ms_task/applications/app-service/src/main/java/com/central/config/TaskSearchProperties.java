@@ -0,0 +1,19 @@
+package com.central.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "usecase.task-search")
+public class TaskSearchProperties {
+    /** Arma el índice de búsqueda al arrancar; apagado, la búsqueda responde 503. */
+    private boolean enabled = true;
+    /** Tareas por página al recorrer el repositorio para armar el índice. */
+    private int loadPageSize = 1000;
+    /** Tope de resultados por consulta. */
+    private int maxLimit = 100;
+    /** Cada cuánto se rearma el índice para incorporar escrituras de otras instancias; vacío lo desactiva. */
+    private Duration refreshInterval;
+}
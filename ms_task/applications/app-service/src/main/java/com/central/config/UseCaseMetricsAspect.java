@@ -0,0 +1,75 @@
+package com.central.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timer {@code usecase.invocations} para cada método público de los casos de uso. El tiempo corre
+ * desde la suscripción hasta la señal terminal (o la cancelación), no desde que se arma el Mono,
+ * y así el dominio queda libre de Micrometer.
+ */
+@Aspect
+@RequiredArgsConstructor
+public class UseCaseMetricsAspect {
+    static final String METRIC = "usecase.invocations";
+
+    private final MeterRegistry registry;
+    // Los Timer se arman una vez por método: en cada llamada solo queda una búsqueda en el mapa
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public reactor.core.publisher.Mono com.central.usecase..*UseCase.*(..))")
+    public Object timeMono(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodTimers methodTimers = timers(joinPoint);
+        Mono<?> result = (Mono<?>) joinPoint.proceed();
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return result.doFinally(signal -> sample.stop(methodTimers.of(signal)));
+        });
+    }
+
+    @Around("execution(public reactor.core.publisher.Flux com.central.usecase..*UseCase.*(..))")
+    public Object timeFlux(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodTimers methodTimers = timers(joinPoint);
+        Flux<?> result = (Flux<?>) joinPoint.proceed();
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return result.doFinally(signal -> sample.stop(methodTimers.of(signal)));
+        });
+    }
+
+    private MethodTimers timers(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        return timers.computeIfAbsent(signature.getMethod(), method -> new MethodTimers(
+                timer(signature, "success"), timer(signature, "error"), timer(signature, "cancelled")));
+    }
+
+    private Timer timer(MethodSignature signature, String outcome) {
+        return Timer.builder(METRIC)
+                .tag("usecase", signature.getDeclaringType().getSimpleName())
+                .tag("method", signature.getName())
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private record MethodTimers(Timer success, Timer error, Timer cancelled) {
+        Timer of(SignalType signal) {
+            return switch (signal) {
+                case ON_ERROR -> error;
+                case CANCEL -> cancelled;
+                default -> success;
+            };
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.central.config;
+
+import com.central.model.task.gateways.TaskBulkRepository;
+import com.central.model.task.gateways.TaskDeadlinePublisher;
+import com.central.model.task.gateways.TaskDeadlineRepository;
+import com.central.model.task.gateways.TaskRepository;
+import com.central.usecase.task.BulkTaskUseCase;
+import com.central.usecase.task.TaskUseCase;
+import com.central.usecase.task.batch.BatchingTaskRepository;
+import com.central.usecase.task.batch.TaskBatchLoader;
+import com.central.usecase.task.cache.CachingTaskBulkRepository;
+import com.central.usecase.task.cache.CachingTaskRepository;
+import com.central.usecase.task.cache.TaskCache;
+import com.central.usecase.task.deadline.DeadlineScheduler;
+import com.central.usecase.task.deadline.DeadlineTrackingTaskBulkRepository;
+import com.central.usecase.task.deadline.DeadlineTrackingTaskRepository;
+import com.central.usecase.task.search.IndexingTaskBulkRepository;
+import com.central.usecase.task.search.IndexingTaskRepository;
+import com.central.usecase.task.search.TaskSearchUseCase;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({TaskCacheProperties.class, DeadlineSchedulerProperties.class,
+        TaskSearchProperties.class, TaskBatchingProperties.class})
+public class UseCasesConfig {
+
+    @Bean
+    public TaskCache taskCache(TaskCacheProperties properties) {
+        return new TaskCache(properties.getMaxSize(), properties.getTtl());
+    }
+
+    @Bean
+    public TaskCacheMetrics taskCacheMetrics(TaskCache taskCache) {
+        return new TaskCacheMetrics(taskCache);
+    }
+
+    @Bean
+    public DeadlineScheduler deadlineScheduler(TaskDeadlineRepository taskDeadlineRepository,
+                                               TaskDeadlinePublisher taskDeadlinePublisher,
+                                               DeadlineSchedulerProperties properties) {
+        return new DeadlineScheduler(taskDeadlineRepository, taskDeadlinePublisher, properties.toSettings());
+    }
+
+    @Bean
+    public DeadlineSchedulerLifecycle deadlineSchedulerLifecycle(DeadlineScheduler deadlineScheduler,
+                                                                 DeadlineSchedulerProperties properties) {
+        return new DeadlineSchedulerLifecycle(deadlineScheduler, properties);
+    }
+
+    @Bean
+    public DeadlineSchedulerMetrics deadlineSchedulerMetrics(DeadlineScheduler deadlineScheduler) {
+        return new DeadlineSchedulerMetrics(deadlineScheduler);
+    }
+
+    @Bean
+    public TaskSearchUseCase taskSearchUseCase(TaskRepository taskRepository, TaskSearchProperties properties) {
+        return new TaskSearchUseCase(taskRepository, properties.getLoadPageSize(), properties.getMaxLimit());
+    }
+
+    @Bean
+    public TaskSearchIndexLifecycle taskSearchIndexLifecycle(TaskSearchUseCase taskSearchUseCase,
+                                                             TaskSearchProperties properties) {
+        return new TaskSearchIndexLifecycle(taskSearchUseCase, properties);
+    }
+
+    @Bean
+    public TaskSearchMetrics taskSearchMetrics(TaskSearchUseCase taskSearchUseCase) {
+        return new TaskSearchMetrics(taskSearchUseCase);
+    }
+
+    @Bean
+    public TaskBatchLoader taskBatchLoader(TaskRepository taskRepository, TaskBatchingProperties properties,
+                                           MeterRegistry meterRegistry) {
+        DistributionSummary batchSize = DistributionSummary.builder("task.loader.batch.size")
+                .description("Ids distintos por consulta agrupada")
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue((double) properties.getMaxBatchSize())
+                .register(meterRegistry);
+        return new TaskBatchLoader(taskRepository, properties.getWindow(), properties.getMaxBatchSize(),
+                batchSize::record);
+    }
+
+    @Bean
+    public TaskBatchLoaderMetrics taskBatchLoaderMetrics(TaskBatchLoader taskBatchLoader) {
+        return new TaskBatchLoaderMetrics(taskBatchLoader);
+    }
+
+    @Bean
+    public TaskUseCase taskUseCase(TaskRepository taskRepository, TaskCache taskCache,
+                                   DeadlineScheduler deadlineScheduler, TaskSearchUseCase taskSearchUseCase,
+                                   TaskBatchLoader taskBatchLoader, TaskBatchingProperties batchingProperties) {
+        // El interruptor se evalúa al crear el bean, no con condiciones, para que sobreviva al procesamiento AOT
+        TaskRepository reads = batchingProperties.isEnabled()
+                ? new BatchingTaskRepository(taskRepository, taskBatchLoader)
+                : taskRepository;
+        return new TaskUseCase(new CachingTaskRepository(new IndexingTaskRepository(
+                new DeadlineTrackingTaskRepository(reads, deadlineScheduler), taskSearchUseCase), taskCache));
+    }
+
+    @Bean
+    public BulkTaskUseCase bulkTaskUseCase(TaskBulkRepository taskBulkRepository, TaskCache taskCache,
+                                           DeadlineScheduler deadlineScheduler, TaskSearchUseCase taskSearchUseCase) {
+        return new BulkTaskUseCase(new CachingTaskBulkRepository(new IndexingTaskBulkRepository(
+                new DeadlineTrackingTaskBulkRepository(taskBulkRepository, deadlineScheduler), taskSearchUseCase),
+                taskCache));
+    }
+}
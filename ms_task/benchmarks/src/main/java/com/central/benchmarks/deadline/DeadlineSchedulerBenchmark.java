@@ -0,0 +1,191 @@
+package com.central.benchmarks.deadline;
+
+import com.central.model.task.Task;
+import com.central.model.task.TaskStatus;
+import com.central.model.task.gateways.TaskDeadlineRepository;
+import com.central.usecase.task.deadline.DeadlineScheduler;
+import com.central.usecase.task.deadline.DeadlineSettings;
+import com.central.usecase.task.deadline.TimingWheel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de programar, cancelar y vencer plazos con {@code pending} vencimientos en memoria,
+ * repartidos en una ventana de una hora:
+ * <ul>
+ *     <li>{@code wheelScheduleCancel}: programar y cancelar en la {@link TimingWheel}.</li>
+ *     <li>{@code executorScheduleCancel}: lo mismo con un {@link ScheduledThreadPoolExecutor}
+ *     (montículo, O(log n)) como referencia.</li>
+ *     <li>{@code schedulerTrack}: una reprogramación completa en el {@link DeadlineScheduler}
+ *     (lock, índice por tarea, aviso y vencimiento).</li>
+ *     <li>{@code wheelAdvanceTick}: un tick de la rueda, reprogramando lo vencido para mantener
+ *     constante la cantidad pendiente.</li>
+ * </ul>
+ * El costo por operación de la rueda no debería cambiar entre 1.000 y 1.000.000 pendientes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms3g", "-Xmx3g"})
+public class DeadlineSchedulerBenchmark {
+    private static final long BASE = LocalDateTime.of(2025, 1, 1, 8, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+    private static final long TICK = 1_000L;
+    private static final long HORIZON = 3_600_000L;
+    private static final Runnable NOOP = () -> {
+    };
+
+    @State(Scope.Benchmark)
+    public static class WheelState {
+        @Param({"1000", "1000000"})
+        int pending;
+
+        TimingWheel<long[]> wheel;
+        SplittableRandom random;
+        long now;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            wheel = new TimingWheel<>(TICK, 8, 4, BASE);
+            random = new SplittableRandom(42);
+            now = BASE;
+            for (int i = 0; i < pending; i++) {
+                long fireAt = BASE + TICK + random.nextLong(HORIZON);
+                wheel.schedule(fireAt, new long[]{fireAt});
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ExecutorState {
+        @Param({"1000", "1000000"})
+        int pending;
+
+        ScheduledThreadPoolExecutor executor;
+        SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            executor = new ScheduledThreadPoolExecutor(1);
+            executor.setRemoveOnCancelPolicy(true);
+            random = new SplittableRandom(42);
+            for (int i = 0; i < pending; i++) {
+                executor.schedule(NOOP, HORIZON + random.nextLong(HORIZON), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            executor.shutdownNow();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SchedulerState {
+        @Param({"1000", "1000000"})
+        int pending;
+
+        DeadlineScheduler scheduler;
+        Task[] tasks;
+        SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            random = new SplittableRandom(42);
+            tasks = new Task[pending];
+            for (int i = 0; i < pending; i++) {
+                tasks[i] = Task.builder()
+                        .id(UUID.randomUUID())
+                        .title("Tarea")
+                        .status(TaskStatus.PENDING)
+                        .dueDate(BASE + Duration.ofMinutes(20).toMillis() + random.nextLong(HORIZON / 2))
+                        .createdAt(BASE)
+                        .updatedAt(BASE)
+                        .build();
+            }
+            scheduler = new DeadlineScheduler(new PreloadedDeadlines(tasks), deadlines -> Mono.empty(),
+                    new DeadlineSettings(Duration.ofMillis(TICK), Duration.ofMillis(HORIZON),
+                            Duration.ofMinutes(15), 500), () -> BASE);
+            scheduler.start().block();
+        }
+    }
+
+    @Benchmark
+    public boolean wheelScheduleCancel(WheelState state) {
+        TimingWheel.Timer<long[]> timer = state.wheel.schedule(
+                state.now + TICK + state.random.nextLong(HORIZON), null);
+        return state.wheel.cancel(timer);
+    }
+
+    @Benchmark
+    public boolean executorScheduleCancel(ExecutorState state) {
+        ScheduledFuture<?> future = state.executor.schedule(NOOP,
+                HORIZON + state.random.nextLong(HORIZON), TimeUnit.MILLISECONDS);
+        return future.cancel(false);
+    }
+
+    @Benchmark
+    public int schedulerTrack(SchedulerState state) {
+        state.scheduler.track(state.tasks[state.random.nextInt(state.tasks.length)]);
+        return state.scheduler.pending();
+    }
+
+    @Benchmark
+    public int wheelAdvanceTick(WheelState state) {
+        TimingWheel<long[]> wheel = state.wheel;
+        state.now += TICK;
+        return wheel.advance(state.now, payload -> {
+            payload[0] += HORIZON;
+            wheel.schedule(payload[0], payload);
+        });
+    }
+
+    /**
+     * Repositorio que entrega las tareas ya armadas: la carga inicial no paga I/O.
+     */
+    private record PreloadedDeadlines(Task[] tasks) implements TaskDeadlineRepository {
+
+        @Override
+        public Flux<Task> findOpenDueBetween(long fromInclusive, long toExclusive) {
+            return Flux.fromArray(tasks).filter(task -> task.dueDate() >= fromInclusive && task.dueDate() < toExclusive);
+        }
+
+        @Override
+        public Flux<Task> findAllById(Collection<UUID> ids) {
+            return Flux.empty();
+        }
+
+        @Override
+        public Mono<Long> loadCheckpoint() {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> saveCheckpoint(long firedUntil) {
+            return Mono.empty();
+        }
+    }
+}
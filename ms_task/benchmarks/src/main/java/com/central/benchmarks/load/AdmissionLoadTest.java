@@ -0,0 +1,103 @@
+package com.central.benchmarks.load;
+
+import com.central.model.exception.OverloadedException;
+import com.central.r2dbc.admission.AdmissionController;
+import com.central.r2dbc.admission.AdmissionProperties;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactories;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prueba de carga local en lazo abierto contra H2: cada operación retiene una conexión del pool
+ * durante {@code serviceMillis}, simulando un Postgres lento, y se ofrece más carga de la que el
+ * pool puede atender. Compara la latencia de cola sin y con control de admisión.
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.central.benchmarks.load.AdmissionLoadTest \
+ *     [opsPorSegundo=400] [segundos=10] [serviceMillis=20] [poolSize=4]
+ * </pre>
+ */
+public final class AdmissionLoadTest {
+
+    private AdmissionLoadTest() {
+    }
+
+    public static void main(String[] args) {
+        int rate = intArg(args, 0, 400);
+        int seconds = intArg(args, 1, 10);
+        int serviceMillis = intArg(args, 2, 20);
+        int poolSize = intArg(args, 3, 4);
+
+        System.out.printf("Carga ofrecida: %d ops/s durante %ds, capacidad teórica del pool: %d ops/s%n",
+                rate, seconds, poolSize * 1000 / serviceMillis);
+        run("sin admisión", rate, seconds, serviceMillis, poolSize, false);
+        run("con admisión", rate, seconds, serviceMillis, poolSize, true);
+    }
+
+    private static void run(String name, int rate, int seconds, int serviceMillis, int poolSize, boolean admission) {
+        ConnectionPool pool = (ConnectionPool) ConnectionFactories.get("r2dbc:pool:h2:mem:///load-" + UUID.randomUUID()
+                + ";DB_CLOSE_DELAY=-1?maxSize=" + poolSize + "&initialSize=" + poolSize);
+        DatabaseClient client = DatabaseClient.create(pool);
+        client.sql("CREATE ALIAS IF NOT EXISTS PAUSE FOR '" + AdmissionLoadTest.class.getName() + ".pause'").then().block();
+
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setEnabled(admission);
+        properties.setInitialLimit(poolSize);
+        properties.setMaxLimit(poolSize);
+        properties.setLatencyTarget(Duration.ofMillis(serviceMillis * 3L));
+        AdmissionController controller = new AdmissionController(properties);
+
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        LongAdder rejected = new LongAdder();
+        Mono<Void> operation = client.sql("CALL PAUSE(" + serviceMillis + ")").then()
+                .subscribeOn(Schedulers.boundedElastic());
+
+        Flux.interval(Duration.ofNanos(1_000_000_000L / rate))
+                .take(Duration.ofSeconds(seconds))
+                .onBackpressureDrop()
+                .flatMap(tick -> {
+                    long start = System.nanoTime();
+                    return controller.admit(operation)
+                            .doOnSuccess(ignored -> latencies.add(System.nanoTime() - start))
+                            .onErrorResume(OverloadedException.class, e -> {
+                                rejected.increment();
+                                return Mono.empty();
+                            });
+                }, Integer.MAX_VALUE)
+                .blockLast();
+        pool.dispose();
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        System.out.printf("%-13s completadas=%d rechazadas=%d límite=%d p50=%dms p95=%dms p99=%dms max=%dms%n",
+                name, sorted.length, rejected.sum(), controller.limit(), percentile(sorted, 50), percentile(sorted, 95),
+                percentile(sorted, 99), sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000);
+    }
+
+    /**
+     * Función expuesta a H2 para simular una consulta lenta ({@code Thread.sleep} está sobrecargado
+     * y H2 no puede resolver el alias directamente).
+     */
+    public static void pause(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000;
+    }
+
+    private static int intArg(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+}
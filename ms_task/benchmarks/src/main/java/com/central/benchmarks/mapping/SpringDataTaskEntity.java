@@ -0,0 +1,49 @@
+package com.central.benchmarks.mapping;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidad que mapeaba Spring Data antes de {@code TaskRowMapper}/{@code TaskStatementBinder}; se
+ * conserva solo como línea base de {@link TaskMappingBenchmark}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table("task")
+public class SpringDataTaskEntity implements Persistable<UUID> {
+    @Id
+    private UUID id;
+    private String title;
+    private String description;
+    private String status;
+    @Column("due_date")
+    private LocalDateTime dueDate;
+    @Column("created_at")
+    private LocalDateTime createdAt;
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+    private String tags;
+
+    // El id lo asigna el dominio, así que Spring Data no puede deducir si es INSERT o UPDATE
+    @Transient
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+}
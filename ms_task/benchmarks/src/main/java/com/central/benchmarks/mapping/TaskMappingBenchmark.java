@@ -0,0 +1,115 @@
+package com.central.benchmarks.mapping;
+
+import com.central.benchmarks.support.ArrayRow;
+import com.central.benchmarks.support.CapturingStatement;
+import com.central.benchmarks.support.SampleTasks;
+import com.central.model.task.Task;
+import com.central.model.task.TaskStatus;
+import com.central.r2dbc.task.TaskRowMapper;
+import com.central.r2dbc.task.TaskStatementBinder;
+import com.central.r2dbc.task.TaskTags;
+import com.central.r2dbc.task.TaskTimestamps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.r2dbc.core.Parameter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeo fila↔dominio por fila: el convertidor reflexivo de Spring Data (entidad intermedia y
+ * {@link OutboundRow}) contra {@link TaskRowMapper}/{@link TaskStatementBinder}. Sin base de datos,
+ * para aislar el mapeo. La asignación por fila sale con {@code -prof gc} ({@code gc.alloc.rate.norm}):
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar TaskMappingBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMappingBenchmark {
+    private static final String[] COLUMNS = TaskRowMapper.COLUMNS.split(", ");
+
+    private MappingR2dbcConverter converter;
+    private ArrayRow row;
+    private Task task;
+    private CapturingStatement statement;
+
+    @Setup
+    public void setUp() {
+        converter = new MappingR2dbcConverter(new R2dbcMappingContext());
+        task = SampleTasks.storedTask(42);
+        row = new ArrayRow(COLUMNS, new Object[]{
+                task.id(), task.title(), task.description(), task.status().name(),
+                TaskTimestamps.toLocalDateTime(task.dueDate()),
+                TaskTimestamps.toLocalDateTime(task.createdAt()),
+                TaskTimestamps.toLocalDateTime(task.updatedAt()),
+                TaskTags.toColumn(task.tags())});
+        statement = new CapturingStatement(COLUMNS);
+    }
+
+    @Benchmark
+    public Task springDataRead() {
+        SpringDataTaskEntity entity = converter.read(SpringDataTaskEntity.class, row, row);
+        return new Task(entity.getId(), entity.getTitle(), entity.getDescription(),
+                TaskStatus.valueOf(entity.getStatus()),
+                TaskTimestamps.toEpochMillis(entity.getDueDate()),
+                TaskTimestamps.toEpochMillis(entity.getCreatedAt()),
+                TaskTimestamps.toEpochMillis(entity.getUpdatedAt()),
+                TaskTags.fromColumn(entity.getTags()));
+    }
+
+    @Benchmark
+    public Task handWrittenRead() {
+        return TaskRowMapper.map(row);
+    }
+
+    /**
+     * Lo que hacía {@code save()}: dominio → entidad → {@link OutboundRow} → un bind por columna.
+     */
+    @Benchmark
+    public Object springDataWrite() {
+        SpringDataTaskEntity entity = SpringDataTaskEntity.builder()
+                .id(task.id())
+                .title(task.title())
+                .description(task.description())
+                .status(task.status().name())
+                .dueDate(TaskTimestamps.toLocalDateTime(task.dueDate()))
+                .createdAt(TaskTimestamps.toLocalDateTime(task.createdAt()))
+                .updatedAt(TaskTimestamps.toLocalDateTime(task.updatedAt()))
+                .tags(TaskTags.toColumn(task.tags()))
+                .newEntity(true)
+                .build();
+        OutboundRow outbound = new OutboundRow();
+        converter.write(entity, outbound);
+        outbound.forEach((column, parameter) -> bind(column.getReference(), parameter));
+        return statement.value(0);
+    }
+
+    @Benchmark
+    public Object handWrittenWrite() {
+        TaskStatementBinder.bind(statement, task);
+        return statement.value(0);
+    }
+
+    private void bind(String column, Parameter parameter) {
+        if (parameter.hasValue()) {
+            statement.bind(column, parameter.getValue());
+        } else {
+            statement.bindNull(column, parameter.getType());
+        }
+    }
+}
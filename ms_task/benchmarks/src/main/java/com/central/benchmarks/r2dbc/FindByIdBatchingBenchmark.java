@@ -0,0 +1,95 @@
+package com.central.benchmarks.r2dbc;
+
+import com.central.benchmarks.support.H2Fixture;
+import com.central.benchmarks.support.SampleTasks;
+import com.central.model.task.Task;
+import com.central.model.task.gateways.TaskRepository;
+import com.central.r2dbc.bulk.BulkWriteProperties;
+import com.central.usecase.task.batch.BatchStats;
+import com.central.usecase.task.batch.BatchingTaskRepository;
+import com.central.usecase.task.batch.TaskBatchLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code findById} concurrente sobre el adaptador R2DBC, directo o a través del
+ * {@link TaskBatchLoader}. Los ids salen de un conjunto caliente de {@value #HOT_IDS} tareas, como
+ * en un fan-out donde muchas peticiones piden las mismas tareas. Al terminar se imprime cuántas
+ * consultas ahorró el agrupamiento.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FindByIdBatchingBenchmark {
+    private static final int ROWS = 10_000;
+    private static final int HOT_IDS = 2_000;
+    private static final int OPERATIONS = 1_000;
+
+    @Param({"direct", "batched"})
+    private String mode;
+
+    @Param({"8", "64"})
+    private int concurrency;
+
+    private H2Fixture fixture;
+    private TaskRepository repository;
+    private TaskBatchLoader loader;
+    private UUID[] ids;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new H2Fixture(new BulkWriteProperties());
+        List<Task> tasks = Flux.range(0, ROWS).map(SampleTasks::storedTask).collectList().block();
+        fixture.taskBulkRepository().upsertAll(Flux.fromIterable(tasks)).blockLast();
+        ids = tasks.stream().limit(HOT_IDS).map(Task::id).toArray(UUID[]::new);
+        random = new SplittableRandom(42);
+        loader = new TaskBatchLoader(fixture.taskRepository(), Duration.ofMillis(1), 100, size -> {
+        });
+        repository = "batched".equals(mode)
+                ? new BatchingTaskRepository(fixture.taskRepository(), loader)
+                : fixture.taskRepository();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if ("batched".equals(mode)) {
+            BatchStats stats = loader.stats();
+            System.out.printf("%n%d lecturas en %d consultas (%.1f ids por consulta, %.1f%% menos consultas)%n",
+                    stats.requests(), stats.batches(), (double) stats.requests() / stats.batches(),
+                    stats.queryReduction() * 100);
+        }
+        fixture.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public Long findById() {
+        return Flux.range(0, OPERATIONS)
+                .flatMap(i -> repository.findById(ids[random.nextInt(ids.length)]), concurrency)
+                .count()
+                .block();
+    }
+}
@@ -0,0 +1,60 @@
+package com.central.benchmarks.r2dbc;
+
+import com.central.benchmarks.support.H2Fixture;
+import com.central.benchmarks.support.SampleTasks;
+import com.central.r2dbc.bulk.BulkWriteProperties;
+import com.central.usecase.task.BulkTaskUseCase;
+import com.central.usecase.task.TaskUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lectura en streaming por keyset a través del caso de uso, expresada por fila leída.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class R2dbcStreamBenchmark {
+    private static final int ROWS = 20_000;
+
+    @Param({"100", "1000"})
+    private int pageSize;
+
+    private H2Fixture fixture;
+    private TaskUseCase taskUseCase;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new H2Fixture(new BulkWriteProperties());
+        new BulkTaskUseCase(fixture.taskBulkRepository()).upsertAll(SampleTasks.newTasks(ROWS)).block();
+        taskUseCase = new TaskUseCase(fixture.taskRepository());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Long streamedReads() {
+        return taskUseCase.streamAfter(null, pageSize).count().block();
+    }
+}
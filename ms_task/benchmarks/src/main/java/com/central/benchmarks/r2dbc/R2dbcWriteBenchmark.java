@@ -0,0 +1,79 @@
+package com.central.benchmarks.r2dbc;
+
+import com.central.benchmarks.support.H2Fixture;
+import com.central.benchmarks.support.SampleTasks;
+import com.central.model.task.Task;
+import com.central.r2dbc.bulk.BulkWriteProperties;
+import com.central.usecase.task.BulkTaskUseCase;
+import com.central.usecase.task.TaskUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escrituras del adaptador r2dbc-postgresql sobre r2dbc-h2: fila a fila contra el camino masivo.
+ * Los resultados se expresan por fila para poder compararlos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class R2dbcWriteBenchmark {
+    private static final int ROWS = 1_000;
+
+    @Param({"100", "500"})
+    private int maxBatchSize;
+
+    private H2Fixture fixture;
+    private TaskUseCase taskUseCase;
+    private BulkTaskUseCase bulkTaskUseCase;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BulkWriteProperties properties = new BulkWriteProperties();
+        properties.setMaxBatchSize(maxBatchSize);
+        fixture = new H2Fixture(properties);
+        taskUseCase = new TaskUseCase(fixture.taskRepository());
+        bulkTaskUseCase = new BulkTaskUseCase(fixture.taskBulkRepository());
+    }
+
+    @Setup(Level.Iteration)
+    public void cleanTables() {
+        fixture.truncate();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Task singleRowWrites() {
+        return Flux.range(0, ROWS)
+                .concatMap(i -> taskUseCase.create(SampleTasks.newTask(i)))
+                .blockLast();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Long batchedWrites() {
+        return bulkTaskUseCase.upsertAll(SampleTasks.newTasks(ROWS)).block();
+    }
+}
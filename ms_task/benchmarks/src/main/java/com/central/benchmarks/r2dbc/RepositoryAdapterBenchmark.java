@@ -0,0 +1,108 @@
+package com.central.benchmarks.r2dbc;
+
+import com.central.benchmarks.support.H2Fixture;
+import com.central.benchmarks.support.SampleTasks;
+import com.central.model.task.Task;
+import com.central.model.task.gateways.TaskRepository;
+import com.central.r2dbc.bulk.BulkWriteProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptador R2DBC contra adaptador JDBC sobre hilos virtuales, con la misma base H2 y pools del
+ * mismo tamaño, bajo {@code concurrency} operaciones simultáneas. Para comparar memoria además del
+ * throughput, correr con el profiler de GC y mirar {@code gc.alloc.rate.norm} (bytes por operación):
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar RepositoryAdapterBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryAdapterBenchmark {
+    private static final int ROWS = 10_000;
+    private static final int OPERATIONS = 1_000;
+    private static final int PAGES = 20;
+    private static final int PAGE_SIZE = 1_000;
+
+    @Param({"r2dbc", "jdbc"})
+    private String adapter;
+
+    @Param({"8", "64"})
+    private int concurrency;
+
+    private H2Fixture fixture;
+    private TaskRepository repository;
+    private UUID[] ids;
+    private List<UUID> pageAnchors;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new H2Fixture(new BulkWriteProperties());
+        List<Task> tasks = Flux.range(0, ROWS).map(SampleTasks::storedTask).collectList().block();
+        fixture.taskBulkRepository().upsertAll(Flux.fromIterable(tasks)).blockLast();
+        ids = tasks.stream().map(Task::id).toArray(UUID[]::new);
+        // Los primeros ids en el orden de la base garantizan páginas completas después de cada uno
+        pageAnchors = fixture.taskRepository().findPageAfter(null, PAGES).map(Task::id).collectList().block();
+        repository = "jdbc".equals(adapter) ? fixture.jdbcTaskRepository() : fixture.taskRepository();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public Long findById() {
+        return Flux.range(0, OPERATIONS)
+                .flatMap(i -> repository.findById(ids[(i * 7919) % ids.length]), concurrency)
+                .count()
+                .block();
+    }
+
+    /**
+     * Lectura pesada: páginas de {@value #PAGE_SIZE} filas, expresada por fila leída.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PAGES * PAGE_SIZE)
+    public Long findPage() {
+        return Flux.range(0, PAGES)
+                .flatMap(i -> repository.findPageAfter(pageAnchors.get(i), PAGE_SIZE).count(), concurrency)
+                .reduce(0L, Long::sum)
+                .block();
+    }
+
+    /**
+     * Inserción con su evento de outbox en la misma transacción.
+     */
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public Long create() {
+        return Flux.range(0, OPERATIONS)
+                .map(SampleTasks::storedTask)
+                .flatMap(repository::create, concurrency)
+                .count()
+                .block();
+    }
+}
@@ -0,0 +1,122 @@
+package com.central.benchmarks.search;
+
+import com.central.benchmarks.support.SampleTasks;
+import com.central.model.task.Task;
+import com.central.model.task.TaskStatus;
+import com.central.usecase.task.search.TaskQuery;
+import com.central.usecase.task.search.TaskSearchIndex;
+import com.central.usecase.task.search.TaskSearchResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencia de consulta y de actualización del {@link TaskSearchIndex} con {@code docs} tareas de
+ * {@link SampleTasks} (5 etiquetas de área, 100 de cliente, estados repartidos por igual):
+ * <ul>
+ *     <li>{@code textAnd}: dos términos, uno presente en todas las tareas y otro en muy pocas.</li>
+ *     <li>{@code tagsOr}: dos clientes, ~2% de las tareas.</li>
+ *     <li>{@code statusOnly}: un estado, ~25% de las tareas; el peor caso para el top-k.</li>
+ *     <li>{@code combined}: texto, etiqueta y dos estados a la vez.</li>
+ *     <li>{@code reindex}: reemplazar una tarea ya indexada, como hace el camino de escritura.</li>
+ * </ul>
+ * Al armar el índice se imprime la memoria retenida (heap tras GC) y la estimación del propio índice.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class TaskSearchIndexBenchmark {
+    private static final int LIMIT = 20;
+
+    @Param({"10000", "1000000"})
+    int docs;
+
+    private TaskSearchIndex index;
+    private Task[] tasks;
+    private SplittableRandom random;
+    private long version;
+
+    private TaskQuery textAnd;
+    private TaskQuery tagsOr;
+    private TaskQuery statusOnly;
+    private TaskQuery combined;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tasks = new Task[docs];
+        for (int i = 0; i < docs; i++) {
+            tasks[i] = SampleTasks.storedTask(i);
+        }
+        long before = usedHeapAfterGc();
+        index = new TaskSearchIndex();
+        for (Task task : tasks) {
+            index.load(task);
+        }
+        index.finishLoading();
+        long retained = usedHeapAfterGc() - before;
+        System.out.printf("%n%d tareas, %d términos: heap retenido %,d KiB (%d B/tarea), estimado por el índice %,d KiB%n",
+                index.documents(), index.distinctTerms(), retained / 1024, retained / docs, index.estimatedBytes() / 1024);
+
+        random = new SplittableRandom(42);
+        version = tasks[0].updatedAt();
+        textAnd = new TaskQuery("benchmark " + (docs / 2), null, null, null, null, LIMIT);
+        tagsOr = new TaskQuery(null, null, List.of("cliente-7", "cliente-42"), TaskQuery.Operator.OR, null, LIMIT);
+        statusOnly = new TaskQuery(null, null, null, null, Set.of(TaskStatus.PENDING), LIMIT);
+        combined = new TaskQuery("tarea benchmark", null, List.of("urgente"), null,
+                Set.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS), LIMIT);
+    }
+
+    @Benchmark
+    public TaskSearchResult textAnd() {
+        return index.search(textAnd);
+    }
+
+    @Benchmark
+    public TaskSearchResult tagsOr() {
+        return index.search(tagsOr);
+    }
+
+    @Benchmark
+    public TaskSearchResult statusOnly() {
+        return index.search(statusOnly);
+    }
+
+    @Benchmark
+    public TaskSearchResult combined() {
+        return index.search(combined);
+    }
+
+    @Benchmark
+    public int reindex() {
+        int i = random.nextInt(tasks.length);
+        Task updated = tasks[i].toBuilder().updatedAt(++version).build();
+        tasks[i] = updated;
+        index.index(updated);
+        return index.documents();
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,87 @@
+package com.central.benchmarks.support;
+
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Type;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fila R2DBC en memoria para medir solo el mapeo, sin driver ni red de por medio. Los valores ya
+ * vienen con el tipo Java que entregaría el driver.
+ */
+public final class ArrayRow implements Row, RowMetadata {
+    private final List<Column> columns;
+    private final Object[] values;
+
+    public ArrayRow(String[] names, Object[] values) {
+        this.columns = Arrays.stream(names)
+                .map(name -> new Column(name, Object.class))
+                .toList();
+        this.values = values;
+    }
+
+    @Override
+    public <T> T get(int index, Class<T> type) {
+        return type.cast(values[index]);
+    }
+
+    @Override
+    public <T> T get(String name, Class<T> type) {
+        return get(indexOf(name), type);
+    }
+
+    @Override
+    public RowMetadata getMetadata() {
+        return this;
+    }
+
+    @Override
+    public ColumnMetadata getColumnMetadata(int index) {
+        return columns.get(index);
+    }
+
+    @Override
+    public ColumnMetadata getColumnMetadata(String name) {
+        return columns.get(indexOf(name));
+    }
+
+    @Override
+    public List<? extends ColumnMetadata> getColumnMetadatas() {
+        return columns;
+    }
+
+    @Override
+    public boolean contains(String name) {
+        return indexOf(name) >= 0;
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).getName().equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private record Column(String getName, Class<?> javaType) implements ColumnMetadata {
+
+        @Override
+        public Type getType() {
+            return new Type.InferredType() {
+                @Override
+                public Class<?> getJavaType() {
+                    return javaType;
+                }
+
+                @Override
+                public String getName() {
+                    return javaType.getSimpleName();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.central.benchmarks.support;
+
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+/**
+ * {@link Statement} que solo guarda los valores enlazados, para medir el costo de enlazar sin driver.
+ */
+public final class CapturingStatement implements Statement {
+    private final String[] names;
+    private final Object[] values;
+
+    public CapturingStatement(String[] names) {
+        this.names = names;
+        this.values = new Object[names.length];
+    }
+
+    public Object value(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Statement add() {
+        return this;
+    }
+
+    @Override
+    public Statement bind(int index, Object value) {
+        values[index] = value;
+        return this;
+    }
+
+    @Override
+    public Statement bind(String name, Object value) {
+        return bind(indexOf(name), value);
+    }
+
+    @Override
+    public Statement bindNull(int index, Class<?> type) {
+        values[index] = null;
+        return this;
+    }
+
+    @Override
+    public Statement bindNull(String name, Class<?> type) {
+        return bindNull(indexOf(name), type);
+    }
+
+    @Override
+    public Publisher<? extends Result> execute() {
+        return Flux.empty();
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Columna desconocida: " + name);
+    }
+}
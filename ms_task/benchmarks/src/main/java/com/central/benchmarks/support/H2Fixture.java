@@ -0,0 +1,106 @@
+package com.central.benchmarks.support;
+
+import com.central.r2dbc.admission.AdmissionController;
+import com.central.r2dbc.admission.AdmissionProperties;
+import com.central.r2dbc.bulk.BulkWriteProperties;
+import com.central.r2dbc.bulk.TaskBulkRepositoryAdapter;
+import com.central.r2dbc.jdbc.JdbcAdapterConfig;
+import com.central.r2dbc.jdbc.JdbcTaskRepositoryAdapter;
+import com.central.r2dbc.outbox.JdbcOutboxWriter;
+import com.central.r2dbc.outbox.OutboxWriter;
+import com.central.r2dbc.task.TaskRepositoryAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.UUID;
+
+/**
+ * Arma los adaptadores del módulo r2dbc-postgresql sobre una base H2 en memoria, igual que lo
+ * haría Spring Boot pero sin levantar el contexto. El adaptador JDBC comparte la misma base.
+ */
+public final class H2Fixture implements AutoCloseable {
+    private static final int POOL_SIZE = 10;
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient databaseClient;
+    private final TaskRepositoryAdapter taskRepository;
+    private final TaskBulkRepositoryAdapter taskBulkRepository;
+    private final HikariDataSource dataSource;
+    private final Scheduler jdbcScheduler;
+    private final JdbcTaskRepositoryAdapter jdbcTaskRepository;
+
+    public H2Fixture(BulkWriteProperties bulkWriteProperties) {
+        String database = "bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+        this.connectionFactory = ConnectionFactories.get("r2dbc:pool:h2:mem:///" + database + "?maxSize=" + POOL_SIZE);
+        new ResourceDatabasePopulator(new ClassPathResource("db/schema.sql")).populate(connectionFactory).block();
+
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        OutboxWriter outboxWriter = new OutboxWriter(databaseClient, objectMapper);
+        TransactionalOperator transactionalOperator =
+                TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+
+        AdmissionController admissionController = new AdmissionController(new AdmissionProperties());
+
+        this.taskRepository = new TaskRepositoryAdapter(databaseClient, outboxWriter, transactionalOperator,
+                admissionController);
+        this.taskBulkRepository = new TaskBulkRepositoryAdapter(connectionFactory, bulkWriteProperties, outboxWriter,
+                admissionController);
+
+        this.dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + database);
+        dataSource.setMaximumPoolSize(POOL_SIZE);
+        JdbcClient jdbcClient = JdbcClient.create(dataSource);
+        this.jdbcScheduler = new JdbcAdapterConfig().jdbcScheduler();
+        this.jdbcTaskRepository = new JdbcTaskRepositoryAdapter(jdbcClient,
+                new TransactionTemplate(new JdbcTransactionManager(dataSource)),
+                new JdbcOutboxWriter(jdbcClient, objectMapper), jdbcScheduler);
+    }
+
+    public TaskRepositoryAdapter taskRepository() {
+        return taskRepository;
+    }
+
+    public TaskBulkRepositoryAdapter taskBulkRepository() {
+        return taskBulkRepository;
+    }
+
+    public JdbcTaskRepositoryAdapter jdbcTaskRepository() {
+        return jdbcTaskRepository;
+    }
+
+    public ConnectionFactory connectionFactory() {
+        return connectionFactory;
+    }
+
+    public void truncate() {
+        databaseClient.sql("DELETE FROM task_outbox").then()
+                .then(databaseClient.sql("DELETE FROM task").then())
+                .block();
+    }
+
+    @Override
+    public void close() {
+        if (connectionFactory instanceof ConnectionPool pool) {
+            pool.dispose();
+        }
+        jdbcScheduler.dispose();
+        dataSource.close();
+    }
+}
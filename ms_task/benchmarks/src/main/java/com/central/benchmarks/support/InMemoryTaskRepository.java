@@ -0,0 +1,62 @@
+package com.central.benchmarks.support;
+
+import com.central.model.task.Task;
+import com.central.model.task.gateways.TaskBulkRepository;
+import com.central.model.task.gateways.TaskRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Puertos en memoria para medir solo el costo de los casos de uso.
+ */
+public class InMemoryTaskRepository implements TaskRepository, TaskBulkRepository {
+    private final ConcurrentSkipListMap<UUID, Task> tasks = new ConcurrentSkipListMap<>();
+
+    @Override
+    public Mono<Task> create(Task task) {
+        return Mono.fromSupplier(() -> {
+            tasks.put(task.id(), task);
+            return task;
+        });
+    }
+
+    @Override
+    public Mono<Task> update(Task task) {
+        return create(task);
+    }
+
+    @Override
+    public Mono<Task> findById(UUID id) {
+        return Mono.fromSupplier(() -> tasks.get(id));
+    }
+
+    @Override
+    public Flux<Task> findAllById(Collection<UUID> ids) {
+        return Flux.fromIterable(ids).mapNotNull(tasks::get);
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return Mono.fromRunnable(() -> tasks.remove(id));
+    }
+
+    @Override
+    public Flux<Task> findPageAfter(UUID afterId, int limit) {
+        NavigableMap<UUID, Task> tail = afterId == null ? tasks : tasks.tailMap(afterId, false);
+        return Flux.fromIterable(tail.values()).take(limit);
+    }
+
+    @Override
+    public Flux<Task> upsertAll(Flux<Task> batch) {
+        return batch.doOnNext(task -> tasks.put(task.id(), task));
+    }
+
+    public void clear() {
+        tasks.clear();
+    }
+}
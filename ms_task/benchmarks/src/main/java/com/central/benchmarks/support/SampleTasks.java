@@ -0,0 +1,41 @@
+package com.central.benchmarks.support;
+
+import com.central.model.task.Task;
+import com.central.model.task.TaskStatus;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+public final class SampleTasks {
+    private static final long BASE = LocalDateTime.of(2025, 1, 1, 8, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+    private static final long HOUR = 3_600_000L;
+    private static final String[] TAGS = {"backend", "frontend", "infra", "soporte", "urgente"};
+
+    private SampleTasks() {
+    }
+
+    public static Task newTask(int i) {
+        return Task.builder()
+                .title("Tarea " + i)
+                .description("Descripción de la tarea de benchmark número " + i)
+                .dueDate(BASE + (i % 720) * HOUR)
+                .tags(List.of("cliente-" + (i % 100), TAGS[i % TAGS.length]))
+                .build();
+    }
+
+    public static Task storedTask(int i) {
+        return newTask(i).toBuilder()
+                .id(UUID.randomUUID())
+                .status(TaskStatus.values()[i % TaskStatus.values().length])
+                .createdAt(BASE)
+                .updatedAt(BASE)
+                .build();
+    }
+
+    public static Flux<Task> newTasks(int count) {
+        return Flux.range(0, count).map(SampleTasks::newTask);
+    }
+}
@@ -0,0 +1,101 @@
+package com.central.benchmarks.usecase;
+
+import com.central.benchmarks.support.InMemoryTaskRepository;
+import com.central.benchmarks.support.SampleTasks;
+import com.central.model.task.Task;
+import com.central.usecase.task.BulkTaskUseCase;
+import com.central.usecase.task.TaskUseCase;
+import com.central.usecase.task.cache.CachingTaskRepository;
+import com.central.usecase.task.cache.TaskCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Costo de la capa de casos de uso (validación, armado de la cadena reactiva, caché) sin I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskUseCaseBenchmark {
+    private static final int STORED_TASKS = 10_000;
+
+    private InMemoryTaskRepository repository;
+    private TaskUseCase taskUseCase;
+    private TaskUseCase cachedTaskUseCase;
+    private BulkTaskUseCase bulkTaskUseCase;
+    private List<Task> storedTasks;
+    private List<UUID> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = new InMemoryTaskRepository();
+        taskUseCase = new TaskUseCase(repository);
+        cachedTaskUseCase = new TaskUseCase(new CachingTaskRepository(repository,
+                new TaskCache(STORED_TASKS, Duration.ofMinutes(10))));
+        bulkTaskUseCase = new BulkTaskUseCase(repository);
+
+        storedTasks = IntStream.range(0, STORED_TASKS).mapToObj(SampleTasks::storedTask).toList();
+        ids = storedTasks.stream().map(Task::id).toList();
+    }
+
+    /**
+     * {@code create} y {@code bulkCreate1000} agregan filas en cada invocación. Cada iteración vuelve
+     * a las mismas tareas guardadas para que el tamaño del mapa (y su costo de GC) no crezca de una
+     * iteración a la siguiente.
+     */
+    @Setup(Level.Iteration)
+    public void resetRepository() {
+        repository.clear();
+        storedTasks.forEach(task -> repository.create(task).block());
+    }
+
+    @Benchmark
+    public Task create() {
+        return taskUseCase.create(SampleTasks.newTask(1)).block();
+    }
+
+    @Benchmark
+    public Task findById() {
+        return taskUseCase.findById(randomId()).block();
+    }
+
+    @Benchmark
+    public Task findByIdCached() {
+        return cachedTaskUseCase.findById(randomId()).block();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Long bulkCreate1000() {
+        return bulkTaskUseCase.upsertAll(SampleTasks.newTasks(1_000)).block();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Long streamAll() {
+        return taskUseCase.streamAfter(null, 500).count().block();
+    }
+
+    private UUID randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,17 @@
+package com.central.model.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum BusinessErrorMessage {
+    TASK_NOT_FOUND("TSK-404", "La tarea no existe"),
+    TASK_TITLE_REQUIRED("TSK-001", "El título de la tarea es obligatorio"),
+    TASK_TITLE_TOO_LONG("TSK-002", "El título de la tarea supera los 255 caracteres"),
+    TASK_TAGS_INVALID("TSK-003", "Se admiten hasta 20 etiquetas de hasta 50 caracteres y sin comas"),
+    TASK_DESCRIPTION_TOO_LONG("TSK-004", "La descripción de la tarea supera los 2000 caracteres");
+
+    private final String code;
+    private final String message;
+}
@@ -0,0 +1,13 @@
+package com.central.model.exception;
+
+import lombok.Getter;
+
+@Getter
+public class BusinessException extends RuntimeException {
+    private final BusinessErrorMessage errorMessage;
+
+    public BusinessException(BusinessErrorMessage errorMessage) {
+        super(errorMessage.getMessage());
+        this.errorMessage = errorMessage;
+    }
+}
@@ -0,0 +1,19 @@
+package com.central.model.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * La infraestructura rechazó la operación para no acumular más espera (por ejemplo, el pool de
+ * conexiones está saturado). El cliente puede reintentar después de {@link #getRetryAfter()}.
+ */
+@Getter
+public class OverloadedException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public OverloadedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
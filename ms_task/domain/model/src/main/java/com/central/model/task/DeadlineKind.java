@@ -0,0 +1,11 @@
+package com.central.model.task;
+
+/**
+ * Eventos que produce el vencimiento de una tarea abierta.
+ */
+public enum DeadlineKind {
+    /** Aviso previo: se dispara {@code reminder-lead} antes del vencimiento. */
+    REMINDER,
+    /** La tarea pasó su fecha de vencimiento sin cerrarse. */
+    OVERDUE
+}
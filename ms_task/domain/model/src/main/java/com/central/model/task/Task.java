@@ -0,0 +1,25 @@
+package com.central.model.task;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tarea del dominio, inmutable. Las fechas son milisegundos desde epoch (UTC); {@code 0} significa
+ * "sin valor", de modo que una tarea sin fecha límite tiene {@code dueDate == NO_DUE_DATE}. Las
+ * etiquetas nunca son {@code null}: una tarea sin etiquetas tiene la lista vacía.
+ */
+@Builder(toBuilder = true)
+public record Task(UUID id, String title, String description, TaskStatus status,
+                   long dueDate, long createdAt, long updatedAt, List<String> tags) {
+    public static final long NO_DUE_DATE = 0L;
+
+    public Task {
+        tags = tags == null ? List.of() : List.copyOf(tags);
+    }
+
+    public boolean hasDueDate() {
+        return dueDate != NO_DUE_DATE;
+    }
+}
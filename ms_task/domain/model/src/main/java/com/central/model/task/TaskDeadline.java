@@ -0,0 +1,19 @@
+package com.central.model.task;
+
+import java.util.UUID;
+
+/**
+ * Evento de vencimiento programado para una tarea.
+ *
+ * @param dueDate fecha de vencimiento de la tarea (epoch millis UTC) con la que se programó.
+ * @param fireAt  instante en que corresponde disparar el evento (epoch millis UTC).
+ */
+public record TaskDeadline(UUID taskId, DeadlineKind kind, long dueDate, long fireAt) {
+
+    /**
+     * @return {@code true} si la tarea, leída después de disparar, sigue justificando el evento.
+     */
+    public boolean stillApplies(Task current) {
+        return current != null && current.status().isOpen() && current.dueDate() == dueDate;
+    }
+}
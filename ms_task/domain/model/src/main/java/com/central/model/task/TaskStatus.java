@@ -0,0 +1,15 @@
+package com.central.model.task;
+
+public enum TaskStatus {
+    PENDING,
+    IN_PROGRESS,
+    COMPLETED,
+    CANCELLED;
+
+    /**
+     * @return {@code true} si la tarea sigue abierta y por lo tanto sus vencimientos aplican.
+     */
+    public boolean isOpen() {
+        return this == PENDING || this == IN_PROGRESS;
+    }
+}
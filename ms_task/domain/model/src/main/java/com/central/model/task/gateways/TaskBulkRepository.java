@@ -0,0 +1,15 @@
+package com.central.model.task.gateways;
+
+import com.central.model.task.Task;
+import reactor.core.publisher.Flux;
+
+/**
+ * Puerto de escritura masiva: agrupa las tareas en lotes y las persiste con semántica de upsert.
+ */
+public interface TaskBulkRepository {
+
+    /**
+     * @return las tareas escritas, emitidas lote a lote cuando la transacción de su lote confirma.
+     */
+    Flux<Task> upsertAll(Flux<Task> tasks);
+}
@@ -0,0 +1,15 @@
+package com.central.model.task.gateways;
+
+import com.central.model.task.TaskDeadline;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Publica los eventos de vencimiento disparados. Completa solo cuando el lote entero quedó
+ * confirmado; ante un error el planificador reintenta el lote completo.
+ */
+public interface TaskDeadlinePublisher {
+
+    Mono<Void> publish(List<TaskDeadline> deadlines);
+}
@@ -0,0 +1,33 @@
+package com.central.model.task.gateways;
+
+import com.central.model.task.Task;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Lecturas que necesita el planificador de vencimientos y el punto de control que le permite
+ * reanudar tras un reinicio sin repetir lo ya publicado.
+ */
+public interface TaskDeadlineRepository {
+
+    /**
+     * @return tareas abiertas cuyo vencimiento cae en {@code [fromInclusive, toExclusive)}.
+     */
+    Flux<Task> findOpenDueBetween(long fromInclusive, long toExclusive);
+
+    /**
+     * @return las tareas de {@code ids} que todavía existen, en cualquier orden.
+     */
+    Flux<Task> findAllById(Collection<UUID> ids);
+
+    /**
+     * @return instante (epoch millis UTC) hasta el que ya se publicaron todos los vencimientos, o
+     * vacío si el planificador nunca corrió.
+     */
+    Mono<Long> loadCheckpoint();
+
+    Mono<Void> saveCheckpoint(long firedUntil);
+}
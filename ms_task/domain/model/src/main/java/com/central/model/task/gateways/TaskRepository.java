@@ -0,0 +1,31 @@
+package com.central.model.task.gateways;
+
+import com.central.model.task.Task;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface TaskRepository {
+
+    Mono<Task> create(Task task);
+
+    Mono<Task> update(Task task);
+
+    Mono<Task> findById(UUID id);
+
+    /**
+     * Tareas existentes entre {@code ids}, en cualquier orden, con una sola consulta. Los ids que no
+     * existen se omiten.
+     */
+    Flux<Task> findAllById(Collection<UUID> ids);
+
+    Mono<Void> deleteById(UUID id);
+
+    /**
+     * Página de búsqueda por llave (keyset): tareas con id estrictamente mayor a {@code afterId},
+     * ordenadas por id. Con {@code afterId} nulo devuelve la primera página.
+     */
+    Flux<Task> findPageAfter(UUID afterId, int limit);
+}
@@ -0,0 +1,103 @@
+package com.central.usecase.task;
+
+import com.central.model.exception.BusinessException;
+import com.central.model.task.Task;
+import com.central.model.task.gateways.TaskBulkRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Alta masiva de tareas: aplica las mismas reglas que {@link TaskUseCase#create(Task)} y delega
+ * el agrupamiento en lotes al {@link TaskBulkRepository}.
+ */
+@RequiredArgsConstructor
+public class BulkTaskUseCase {
+    public static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private final TaskBulkRepository taskBulkRepository;
+
+    public Mono<Long> upsertAll(Flux<Task> tasks) {
+        return taskBulkRepository.upsertAll(tasks.map(task ->
+                TaskPreparer.prepareNew(task, System.currentTimeMillis()))).count();
+    }
+
+    /**
+     * Importa un archivo ya separado en líneas. Las líneas ilegibles o que no pasan la validación se
+     * reportan y se omiten sin detener la importación; las válidas se escriben por lotes a medida que
+     * el repositorio pide más, así que en memoria solo hay los lotes en curso. Si la lectura o una
+     * escritura falla, el error es un {@link ImportAbortedException} con el reporte parcial.
+     */
+    public Mono<ImportReport> importLines(Flux<ImportLine> lines) {
+        return Mono.defer(() -> {
+            ImportProgress progress = new ImportProgress(System.nanoTime());
+            Flux<Task> accepted = lines.handle((line, sink) -> {
+                progress.linesRead++;
+                if (line.error() != null) {
+                    progress.reject(line.number(), line.error());
+                    return;
+                }
+                Task task;
+                try {
+                    task = TaskPreparer.prepareNew(line.task(), System.currentTimeMillis());
+                } catch (BusinessException e) {
+                    progress.reject(line.number(), e.getErrorMessage().getCode() + " " + e.getMessage());
+                    return;
+                }
+                progress.pending.put(task.id(), line.number());
+                sink.next(task);
+            });
+            return taskBulkRepository.upsertAll(accepted)
+                    .doOnNext(progress::imported)
+                    .then(Mono.fromCallable(progress::report))
+                    .onErrorMap(error -> new ImportAbortedException(progress.report(), error));
+        });
+    }
+
+    /**
+     * Contadores de una importación. Las líneas leídas y rechazadas solo las modifica {@code handle},
+     * que recibe las líneas en serie; {@code pending} e {@code imported} también cambian cuando
+     * confirma un lote, desde el hilo de la base.
+     */
+    private static final class ImportProgress {
+        private final long startNanos;
+        private final List<ImportReport.LineError> errors = new ArrayList<>();
+        /** Línea de cada tarea aceptada cuyo lote todavía no confirmó. */
+        private final Map<UUID, Long> pending = new ConcurrentHashMap<>();
+        private final LongAdder imported = new LongAdder();
+        private volatile long linesRead;
+        private volatile long rejected;
+
+        private ImportProgress(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        private void imported(Task task) {
+            pending.remove(task.id());
+            imported.increment();
+        }
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportReport.LineError(line, message));
+            }
+        }
+
+        private ImportReport report() {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long linesPerSecond = elapsedNanos == 0 ? 0 : linesRead * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+            return new ImportReport(linesRead, imported.sum(), rejected, List.copyOf(errors), rejected > errors.size(),
+                    pending.values().stream().sorted().toList(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    linesPerSecond);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.central.usecase.task;
+
+import lombok.Getter;
+
+/**
+ * La importación se cortó a mitad de camino. Los lotes que ya confirmaron quedan escritos, así que
+ * {@link #getReport()} dice qué se importó y qué no; la causa original es {@link #getCause()}.
+ */
+@Getter
+public class ImportAbortedException extends RuntimeException {
+    private final transient ImportReport report;
+
+    public ImportAbortedException(ImportReport report, Throwable cause) {
+        super("Importación interrumpida tras " + report.imported() + " tareas: " + cause.getMessage(), cause);
+        this.report = report;
+    }
+}
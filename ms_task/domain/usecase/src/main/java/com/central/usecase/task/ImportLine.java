@@ -0,0 +1,18 @@
+package com.central.usecase.task;
+
+import com.central.model.task.Task;
+
+/**
+ * Registro leído de un archivo de importación: la tarea o, si la línea no pudo interpretarse, el
+ * motivo. {@code number} es la línea del archivo (desde 1) y se usa en el reporte de errores.
+ */
+public record ImportLine(long number, Task task, String error) {
+
+    public static ImportLine parsed(long number, Task task) {
+        return new ImportLine(number, task, null);
+    }
+
+    public static ImportLine unreadable(long number, String error) {
+        return new ImportLine(number, null, error);
+    }
+}
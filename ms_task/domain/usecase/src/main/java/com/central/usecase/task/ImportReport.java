@@ -0,0 +1,18 @@
+package com.central.usecase.task;
+
+import java.util.List;
+
+/**
+ * Resultado de una importación. {@code errors} se corta en {@link BulkTaskUseCase#MAX_REPORTED_ERRORS}
+ * para que el reporte no crezca con el archivo; {@code rejected} cuenta todas las líneas rechazadas.
+ * {@code imported} cuenta las tareas cuyo lote confirmó. {@code notImportedLines} solo tiene elementos
+ * si la importación se cortó: son las líneas válidas ya leídas cuyo lote no llegó a confirmar. Junto
+ * con {@code linesRead} (las posteriores no se leyeron) permite reintentar sin duplicar tareas.
+ */
+public record ImportReport(long linesRead, long imported, long rejected, List<LineError> errors,
+                           boolean errorsTruncated, List<Long> notImportedLines, long elapsedMillis,
+                           long linesPerSecond) {
+
+    public record LineError(long line, String message) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.central.usecase.task;
+
+import com.central.model.exception.BusinessErrorMessage;
+import com.central.model.exception.BusinessException;
+import com.central.model.task.Task;
+import com.central.model.task.TaskStatus;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Reglas compartidas por las altas individuales y masivas: validación del título, la descripción y
+ * las etiquetas, y valores por defecto. Las etiquetas se guardan en minúsculas, sin espacios
+ * alrededor ni repetidas.
+ */
+final class TaskPreparer {
+    static final int MAX_TITLE_LENGTH = 255;
+    // Mismo tamaño que la columna description
+    static final int MAX_DESCRIPTION_LENGTH = 2000;
+    static final int MAX_TAGS = 20;
+    static final int MAX_TAG_LENGTH = 50;
+
+    private TaskPreparer() {
+    }
+
+    static Task prepareNew(Task task, long now) {
+        validate(task);
+        return task.toBuilder()
+                .id(task.id() != null ? task.id() : UUID.randomUUID())
+                .status(task.status() != null ? task.status() : TaskStatus.PENDING)
+                .createdAt(task.createdAt() != 0 ? task.createdAt() : now)
+                .updatedAt(now)
+                .tags(normalizeTags(task.tags()))
+                .build();
+    }
+
+    static void validate(Task task) {
+        if (task.title() == null || task.title().isBlank()) {
+            throw new BusinessException(BusinessErrorMessage.TASK_TITLE_REQUIRED);
+        }
+        if (task.title().length() > MAX_TITLE_LENGTH) {
+            throw new BusinessException(BusinessErrorMessage.TASK_TITLE_TOO_LONG);
+        }
+        if (task.description() != null && task.description().length() > MAX_DESCRIPTION_LENGTH) {
+            throw new BusinessException(BusinessErrorMessage.TASK_DESCRIPTION_TOO_LONG);
+        }
+    }
+
+    static List<String> normalizeTags(List<String> tags) {
+        List<String> normalized = tags.stream()
+                .filter(tag -> !tag.isBlank())
+                .map(tag -> tag.strip().toLowerCase(Locale.ROOT))
+                .distinct()
+                .toList();
+        // La coma separa las etiquetas en la columna tags
+        if (normalized.size() > MAX_TAGS
+                || normalized.stream().anyMatch(tag -> tag.length() > MAX_TAG_LENGTH || tag.indexOf(',') >= 0)) {
+            throw new BusinessException(BusinessErrorMessage.TASK_TAGS_INVALID);
+        }
+        return normalized;
+    }
+}
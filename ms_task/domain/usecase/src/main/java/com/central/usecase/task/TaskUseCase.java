@@ -0,0 +1,59 @@
+package com.central.usecase.task;
+
+import com.central.model.exception.BusinessErrorMessage;
+import com.central.model.exception.BusinessException;
+import com.central.model.task.Task;
+import com.central.model.task.TaskStatus;
+import com.central.model.task.gateways.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@RequiredArgsConstructor
+public class TaskUseCase {
+    private final TaskRepository taskRepository;
+
+    public Mono<Task> create(Task task) {
+        return Mono.fromCallable(() -> TaskPreparer.prepareNew(task, System.currentTimeMillis()))
+                .flatMap(taskRepository::create);
+    }
+
+    public Mono<Task> findById(UUID id) {
+        return taskRepository.findById(id)
+                .switchIfEmpty(Mono.error(new BusinessException(BusinessErrorMessage.TASK_NOT_FOUND)));
+    }
+
+    public Mono<Task> changeStatus(UUID id, TaskStatus status) {
+        return findById(id)
+                .map(task -> task.toBuilder()
+                        .status(status)
+                        .updatedAt(System.currentTimeMillis())
+                        .build())
+                .flatMap(taskRepository::update);
+    }
+
+    public Mono<Void> delete(UUID id) {
+        return findById(id).flatMap(task -> taskRepository.deleteById(task.id()));
+    }
+
+    /**
+     * Recorre todas las tareas a partir de {@code afterId} página por página. Solo se consulta la
+     * siguiente página cuando el suscriptor ya consumió la anterior, así que en memoria nunca hay
+     * más de una página aunque se lean millones de filas.
+     */
+    public Flux<Task> streamAfter(UUID afterId, int pageSize) {
+        return fetchPage(afterId, pageSize)
+                .expand(page -> page.size() < pageSize
+                        ? Mono.empty()
+                        : fetchPage(page.get(page.size() - 1).id(), pageSize))
+                .concatMapIterable(Function.identity(), 1);
+    }
+
+    private Mono<List<Task>> fetchPage(UUID afterId, int pageSize) {
+        return taskRepository.findPageAfter(afterId, pageSize).collectList();
+    }
+}
@@ -0,0 +1,17 @@
+package com.central.usecase.task.batch;
+
+/**
+ * @param requests      lecturas recibidas por {@link TaskBatchLoader#load}.
+ * @param coalesced     lecturas que se sumaron a otra del mismo id en el mismo lote.
+ * @param batches       consultas emitidas.
+ * @param failedBatches consultas que fallaron y propagaron el error a todo su lote.
+ */
+public record BatchStats(long requests, long coalesced, long batches, long failedBatches) {
+
+    /**
+     * @return fracción de lecturas que no generó una consulta propia.
+     */
+    public double queryReduction() {
+        return requests == 0 ? 0.0 : 1.0 - (double) batches / requests;
+    }
+}
@@ -0,0 +1,50 @@
+package com.central.usecase.task.batch;
+
+import com.central.model.task.Task;
+import com.central.model.task.gateways.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Decorador del {@link TaskRepository} que resuelve {@code findById} con el {@link TaskBatchLoader};
+ * el resto de las operaciones pasan directo.
+ */
+@RequiredArgsConstructor
+public class BatchingTaskRepository implements TaskRepository {
+    private final TaskRepository delegate;
+    private final TaskBatchLoader loader;
+
+    @Override
+    public Mono<Task> create(Task task) {
+        return delegate.create(task);
+    }
+
+    @Override
+    public Mono<Task> update(Task task) {
+        return delegate.update(task);
+    }
+
+    @Override
+    public Mono<Task> findById(UUID id) {
+        return loader.load(id);
+    }
+
+    @Override
+    public Flux<Task> findAllById(Collection<UUID> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return delegate.deleteById(id);
+    }
+
+    @Override
+    public Flux<Task> findPageAfter(UUID afterId, int limit) {
+        return delegate.findPageAfter(afterId, limit);
+    }
+}
@@ -0,0 +1,146 @@
+package com.central.usecase.task.batch;
+
+import com.central.model.task.Task;
+import com.central.model.task.gateways.TaskRepository;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Agrupa lecturas por id al estilo DataLoader: las llamadas a {@link #load} que llegan dentro de
+ * {@code window} desde la primera del lote, o hasta juntar {@code maxBatchSize} ids distintos, se
+ * resuelven con un único {@link TaskRepository#findAllById}. Cada {@code Mono} recibe su tarea o
+ * queda vacío si no existe; si la consulta falla, fallan todos los del lote.
+ * <ul>
+ *     <li>Los pedidos del mismo id dentro de un lote comparten el resultado.</li>
+ *     <li>La consulta del lote se suscribe fuera de la cadena de quien la pidió: no hereda su
+ *     contexto ni se cancela si ese suscriptor cancela.</li>
+ * </ul>
+ * La sección bajo el lock solo toca memoria.
+ */
+public class TaskBatchLoader {
+    private final TaskRepository repository;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Scheduler scheduler;
+    private final IntConsumer batchSizeListener;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private Batch open;
+
+    public TaskBatchLoader(TaskRepository repository, Duration window, int maxBatchSize,
+                           IntConsumer batchSizeListener) {
+        this(repository, window, maxBatchSize, batchSizeListener, Schedulers.parallel());
+    }
+
+    public TaskBatchLoader(TaskRepository repository, Duration window, int maxBatchSize,
+                           IntConsumer batchSizeListener, Scheduler scheduler) {
+        if (window.isNegative() || maxBatchSize < 1) {
+            throw new IllegalArgumentException("La ventana no puede ser negativa y el lote debe admitir al menos un id");
+        }
+        this.repository = repository;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batchSizeListener = batchSizeListener;
+        this.scheduler = scheduler;
+    }
+
+    public Mono<Task> load(UUID id) {
+        return Mono.defer(() -> {
+            requests.increment();
+            Batch full = null;
+            Mono<Task> result;
+            lock.lock();
+            try {
+                if (open == null) {
+                    open = new Batch();
+                    Batch scheduled = open;
+                    open.timer = scheduler.schedule(() -> dispatch(scheduled), windowNanos, TimeUnit.NANOSECONDS);
+                }
+                Sinks.One<Task> waiter = open.waiters.get(id);
+                if (waiter == null) {
+                    waiter = Sinks.one();
+                    open.waiters.put(id, waiter);
+                } else {
+                    coalesced.increment();
+                }
+                result = waiter.asMono();
+                if (open.waiters.size() >= maxBatchSize) {
+                    // Se quita ya del lote abierto: la siguiente llamada no puede sumarse a uno lleno
+                    full = open;
+                    open = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (full != null) {
+                full.timer.dispose();
+                dispatch(full);
+            }
+            return result;
+        });
+    }
+
+    public BatchStats stats() {
+        return new BatchStats(requests.sum(), coalesced.sum(), batches.sum(), failedBatches.sum());
+    }
+
+    /**
+     * Cierra el lote (lo dispara el primero entre el timer y el lote lleno) y lanza su consulta.
+     */
+    private void dispatch(Batch batch) {
+        lock.lock();
+        try {
+            if (batch.dispatched) {
+                return;
+            }
+            batch.dispatched = true;
+            if (open == batch) {
+                open = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        Map<UUID, Sinks.One<Task>> waiters = batch.waiters;
+        List<UUID> ids = List.copyOf(waiters.keySet());
+        batches.increment();
+        batchSizeListener.accept(ids.size());
+        // defer: si findAllById lanza en vez de devolver un Flux fallido, igual se notifica a todos
+        Flux.defer(() -> repository.findAllById(ids))
+                .collectMap(Task::id, Function.identity(), () -> new LinkedHashMap<>(ids.size() * 2))
+                .subscribe(found -> waiters.forEach((id, waiter) -> {
+                    Task task = found.get(id);
+                    if (task != null) {
+                        waiter.tryEmitValue(task);
+                    } else {
+                        waiter.tryEmitEmpty();
+                    }
+                }), error -> {
+                    failedBatches.increment();
+                    waiters.values().forEach(waiter -> waiter.tryEmitError(error));
+                });
+    }
+
+    private static final class Batch {
+        private final Map<UUID, Sinks.One<Task>> waiters = new LinkedHashMap<>();
+        private Disposable timer;
+        private boolean dispatched;
+    }
+}
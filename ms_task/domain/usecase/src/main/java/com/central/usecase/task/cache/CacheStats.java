@@ -0,0 +1,4 @@
+package com.central.usecase.task.cache;
+
+public record CacheStats(long hits, long misses, long coalescedLoads, long evictions, long size) {
+}
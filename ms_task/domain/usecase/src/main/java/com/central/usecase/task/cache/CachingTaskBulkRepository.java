@@ -0,0 +1,23 @@
+package com.central.usecase.task.cache;
+
+import com.central.model.task.Task;
+import com.central.model.task.gateways.TaskBulkRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+/**
+ * Invalida en el {@link TaskCache} cada tarea de la escritura masiva al entrar al lote y de nuevo
+ * cuando el lote confirma, como {@link CachingTaskRepository}: una lectura que recarga la fila
+ * mientras la tarea espera su lote no deja la versión anterior en caché hasta el TTL.
+ */
+@RequiredArgsConstructor
+public class CachingTaskBulkRepository implements TaskBulkRepository {
+    private final TaskBulkRepository delegate;
+    private final TaskCache cache;
+
+    @Override
+    public Flux<Task> upsertAll(Flux<Task> tasks) {
+        return delegate.upsertAll(tasks.doOnNext(task -> cache.invalidate(task.id())))
+                .doOnNext(task -> cache.invalidate(task.id()));
+    }
+}
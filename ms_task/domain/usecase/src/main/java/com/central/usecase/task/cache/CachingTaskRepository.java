@@ -0,0 +1,56 @@
+package com.central.usecase.task.cache;
+
+import com.central.model.task.Task;
+import com.central.model.task.gateways.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Decorador read-through del {@link TaskRepository}: {@code findById} pasa por el {@link TaskCache}
+ * y toda escritura invalida la entrada antes y después de llegar al adaptador.
+ */
+@RequiredArgsConstructor
+public class CachingTaskRepository implements TaskRepository {
+    private final TaskRepository delegate;
+    private final TaskCache cache;
+
+    @Override
+    public Mono<Task> create(Task task) {
+        return invalidating(task.id(), delegate.create(task));
+    }
+
+    @Override
+    public Mono<Task> update(Task task) {
+        return invalidating(task.id(), delegate.update(task));
+    }
+
+    @Override
+    public Mono<Task> findById(UUID id) {
+        return cache.get(id, delegate::findById);
+    }
+
+    @Override
+    public Flux<Task> findAllById(Collection<UUID> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return invalidating(id, delegate.deleteById(id));
+    }
+
+    @Override
+    public Flux<Task> findPageAfter(UUID afterId, int limit) {
+        return delegate.findPageAfter(afterId, limit);
+    }
+
+    private <T> Mono<T> invalidating(UUID id, Mono<T> write) {
+        return write
+                .doOnSubscribe(subscription -> cache.invalidate(id))
+                .doFinally(signal -> cache.invalidate(id));
+    }
+}
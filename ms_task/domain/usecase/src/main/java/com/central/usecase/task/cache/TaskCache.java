@@ -0,0 +1,153 @@
+package com.central.usecase.task.cache;
+
+import com.central.model.task.Task;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Caché de lectura para tareas con límite de tamaño (LRU) y expiración por TTL.
+ * <p>
+ * Las consultas concurrentes de un mismo id que no están en caché comparten una única carga.
+ * Las secciones protegidas por el lock solo tocan memoria, nunca hacen I/O, así que el caché no
+ * bloquea la cadena reactiva.
+ */
+public class TaskCache {
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<UUID, Entry> entries;
+    private final Map<UUID, Mono<Task>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TaskCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    public TaskCache(int maxSize, Duration ttl, LongSupplier nanoClock) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                boolean evict = size() > TaskCache.this.maxSize;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    public Mono<Task> get(UUID id, Function<UUID, Mono<Task>> loader) {
+        return Mono.defer(() -> {
+            Task cached = lookup(id);
+            if (cached != null) {
+                hits.increment();
+                return Mono.just(cached);
+            }
+            misses.increment();
+            return loadCoalesced(id, loader);
+        });
+    }
+
+    public void invalidate(UUID id) {
+        lock.lock();
+        try {
+            entries.remove(id);
+            // Una carga en curso pudo leer el valor anterior a la escritura: no debe llegar al caché
+            inFlight.remove(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+            inFlight.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), coalescedLoads.sum(), evictions.sum(), size());
+    }
+
+    public long size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Task lookup(UUID id) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            if (nanoClock.getAsLong() - entry.expiresAtNanos() > 0) {
+                entries.remove(id);
+                evictions.increment();
+                return null;
+            }
+            return entry.task();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Mono<Task> loadCoalesced(UUID id, Function<UUID, Mono<Task>> loader) {
+        Mono<Task> existing = inFlight.get(id);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return existing;
+        }
+        AtomicReference<Mono<Task>> self = new AtomicReference<>();
+        Mono<Task> shared = Mono.defer(() -> loader.apply(id))
+                .doOnNext(task -> store(id, task, self.get()))
+                .doFinally(signal -> inFlight.remove(id, self.get()))
+                .cache();
+        self.set(shared);
+        Mono<Task> winner = inFlight.putIfAbsent(id, shared);
+        if (winner != null) {
+            coalescedLoads.increment();
+            return winner;
+        }
+        return shared;
+    }
+
+    private void store(UUID id, Task task, Mono<Task> load) {
+        lock.lock();
+        try {
+            if (inFlight.get(id) == load) {
+                entries.put(id, new Entry(task, nanoClock.getAsLong() + ttlNanos));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(Task task, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,315 @@
+package com.central.usecase.task.deadline;
+
+import com.central.model.task.DeadlineKind;
+import com.central.model.task.Task;
+import com.central.model.task.TaskDeadline;
+import com.central.model.task.gateways.TaskDeadlinePublisher;
+import com.central.model.task.gateways.TaskDeadlineRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Mantiene en una {@link TimingWheel} los vencimientos de las tareas abiertas que caen dentro de
+ * {@code horizon} y los publica por lotes cuando llega su momento.
+ * <ul>
+ *     <li>Los cambios hechos por esta instancia llegan al instante por {@link #track} y
+ *     {@link #untrack}; {@link #refill} relee la ventana para incorporar lo que cambió por otras vías.</li>
+ *     <li>Antes de publicar, cada lote se contrasta con la base en una sola consulta y se descartan
+ *     los eventos de tareas cerradas, borradas o reprogramadas.</li>
+ *     <li>El punto de control marca hasta dónde todo quedó publicado: tras un reinicio se recarga
+ *     desde ahí y lo vencido mientras tanto sale en el primer tick. La entrega es al-menos-una-vez.</li>
+ * </ul>
+ * Las secciones bajo el lock solo tocan memoria y cuestan O(1) por tarea.
+ */
+public class DeadlineScheduler {
+    private static final int SLOT_BITS = 8;
+    private static final int LEVELS = 4;
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(30);
+
+    private final TaskDeadlineRepository repository;
+    private final TaskDeadlinePublisher publisher;
+    private final DeadlineSettings settings;
+    private final LongSupplier clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<UUID, TrackedTask> tracked = new HashMap<>();
+    private final TimingWheel<TaskDeadline> wheel;
+    private final Map<DeadlineKind, LongAdder> fired = new EnumMap<>(DeadlineKind.class);
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder publishFailures = new LongAdder();
+    private volatile boolean active;
+    private long loadedUntil;
+    private volatile long publishedUntil;
+
+    public DeadlineScheduler(TaskDeadlineRepository repository, TaskDeadlinePublisher publisher,
+                             DeadlineSettings settings) {
+        this(repository, publisher, settings, System::currentTimeMillis);
+    }
+
+    public DeadlineScheduler(TaskDeadlineRepository repository, TaskDeadlinePublisher publisher,
+                             DeadlineSettings settings, LongSupplier clock) {
+        this.repository = repository;
+        this.publisher = publisher;
+        this.settings = settings;
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(settings.tick().toMillis(), SLOT_BITS, LEVELS, clock.getAsLong());
+        for (DeadlineKind kind : DeadlineKind.values()) {
+            fired.put(kind, new LongAdder());
+        }
+    }
+
+    /**
+     * Arranca desde el punto de control (o desde ahora la primera vez) y carga la ventana inicial.
+     */
+    public Mono<Void> start() {
+        return repository.loadCheckpoint()
+                .defaultIfEmpty(clock.getAsLong())
+                .flatMap(checkpoint -> {
+                    lock.lock();
+                    try {
+                        tracked.clear();
+                        wheel.clear(checkpoint);
+                        loadedUntil = checkpoint;
+                        publishedUntil = checkpoint;
+                        active = true;
+                    } finally {
+                        lock.unlock();
+                    }
+                    return refill();
+                });
+    }
+
+    /**
+     * Deja de seguir cambios y guarda el punto de control alcanzado.
+     */
+    public Mono<Void> stop() {
+        return Mono.defer(() -> {
+            lock.lock();
+            try {
+                active = false;
+                tracked.clear();
+                wheel.clear(clock.getAsLong());
+            } finally {
+                lock.unlock();
+            }
+            return repository.saveCheckpoint(publishedUntil);
+        });
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Reprograma los eventos de {@code task} según su estado y vencimiento actuales. Ignora
+     * versiones más viejas que la ya seguida, como las de una recarga que corrió en paralelo.
+     */
+    public void track(Task task) {
+        if (!active) {
+            return;
+        }
+        lock.lock();
+        try {
+            TrackedTask current = tracked.get(task.id());
+            if (current != null) {
+                if (task.updatedAt() < current.updatedAt) {
+                    return;
+                }
+                current.cancel(wheel);
+            }
+            TrackedTask next = schedule(task);
+            if (next == null) {
+                tracked.remove(task.id());
+            } else {
+                tracked.put(task.id(), next);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void untrack(UUID taskId) {
+        if (!active) {
+            return;
+        }
+        lock.lock();
+        try {
+            TrackedTask current = tracked.remove(taskId);
+            if (current != null) {
+                current.cancel(wheel);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Extiende la ventana hasta {@code ahora + horizon}, relee todas las tareas abiertas que vencen
+     * en ella y guarda el punto de control.
+     */
+    public Mono<Void> refill() {
+        return Mono.defer(() -> {
+            long from;
+            long until = clock.getAsLong() + settings.horizon().toMillis();
+            lock.lock();
+            try {
+                from = wheel.currentTimeMillis();
+                loadedUntil = Math.max(loadedUntil, until);
+            } finally {
+                lock.unlock();
+            }
+            long checkpoint = publishedUntil;
+            return repository.findOpenDueBetween(from, until)
+                    .doOnNext(this::track)
+                    .then(repository.saveCheckpoint(checkpoint));
+        });
+    }
+
+    /**
+     * Vence todo lo programado hasta ahora, lo verifica contra la base y lo publica en lotes de
+     * {@code maxBatchSize}. Si la publicación falla se reintenta el lote con backoff: los ticks
+     * siguientes esperan y al reanudar alcanzan el tiempo perdido.
+     *
+     * @return eventos publicados.
+     */
+    public Mono<Long> fireDue() {
+        return Mono.defer(() -> {
+            long now = clock.getAsLong();
+            List<TaskDeadline> due = new ArrayList<>();
+            long reached;
+            lock.lock();
+            try {
+                wheel.advance(now, deadline -> {
+                    due.add(deadline);
+                    TrackedTask current = tracked.get(deadline.taskId());
+                    if (current != null && current.expire(deadline.kind())) {
+                        tracked.remove(deadline.taskId());
+                    }
+                });
+                reached = Math.min(now, wheel.currentTimeMillis());
+            } finally {
+                lock.unlock();
+            }
+            return Flux.fromIterable(due)
+                    .buffer(settings.maxBatchSize())
+                    .concatMap(this::verifyAndPublish)
+                    .reduce(0L, Long::sum)
+                    .doOnSuccess(published -> publishedUntil = Math.max(publishedUntil, reached));
+        });
+    }
+
+    public int pending() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long fired(DeadlineKind kind) {
+        return fired.get(kind).sum();
+    }
+
+    /**
+     * @return eventos descartados al verificar porque la tarea ya no los justificaba.
+     */
+    public long discarded() {
+        return discarded.sum();
+    }
+
+    public long publishFailures() {
+        return publishFailures.sum();
+    }
+
+    /**
+     * @return atraso entre ahora y el último instante con todo publicado.
+     */
+    public long lagMillis() {
+        return active ? Math.max(0, clock.getAsLong() - publishedUntil) : 0;
+    }
+
+    private TrackedTask schedule(Task task) {
+        if (!task.status().isOpen() || !task.hasDueDate() || task.dueDate() >= loadedUntil) {
+            return null;
+        }
+        // Lo que sale antes del tiempo ya procesado se publicó o se omitió en su momento
+        long processed = wheel.currentTimeMillis();
+        TrackedTask next = new TrackedTask(task.updatedAt());
+        if (task.dueDate() > processed) {
+            next.overdue = wheel.schedule(task.dueDate(),
+                    new TaskDeadline(task.id(), DeadlineKind.OVERDUE, task.dueDate(), task.dueDate()));
+        }
+        long reminderAt = task.dueDate() - settings.reminderLead().toMillis();
+        if (!settings.reminderLead().isZero() && reminderAt > processed && task.dueDate() > clock.getAsLong()) {
+            next.reminder = wheel.schedule(reminderAt,
+                    new TaskDeadline(task.id(), DeadlineKind.REMINDER, task.dueDate(), reminderAt));
+        }
+        return next.overdue == null && next.reminder == null ? null : next;
+    }
+
+    private Mono<Long> verifyAndPublish(List<TaskDeadline> batch) {
+        return Mono.defer(() -> repository.findAllById(batch.stream().map(TaskDeadline::taskId).distinct().toList())
+                        .collectMap(Task::id, Function.identity())
+                        .flatMap(current -> {
+                            Map<Boolean, List<TaskDeadline>> split = batch.stream()
+                                    .collect(Collectors.partitioningBy(d -> d.stillApplies(current.get(d.taskId()))));
+                            List<TaskDeadline> valid = split.get(true);
+                            return (valid.isEmpty() ? Mono.<Void>empty() : publisher.publish(valid))
+                                    .then(Mono.fromSupplier(() -> {
+                                        discarded.add(split.get(false).size());
+                                        valid.forEach(deadline -> fired.get(deadline.kind()).increment());
+                                        return (long) valid.size();
+                                    }));
+                        }))
+                .doOnError(e -> publishFailures.increment())
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, settings.tick()).maxBackoff(MAX_RETRY_BACKOFF));
+    }
+
+    /**
+     * Timers vigentes de una tarea; se conservan para cancelarlos en O(1) cuando la tarea cambia.
+     */
+    private static final class TrackedTask {
+        private final long updatedAt;
+        private TimingWheel.Timer<TaskDeadline> reminder;
+        private TimingWheel.Timer<TaskDeadline> overdue;
+
+        private TrackedTask(long updatedAt) {
+            this.updatedAt = updatedAt;
+        }
+
+        private void cancel(TimingWheel<TaskDeadline> wheel) {
+            if (reminder != null) {
+                wheel.cancel(reminder);
+            }
+            if (overdue != null) {
+                wheel.cancel(overdue);
+            }
+        }
+
+        /**
+         * @return {@code true} si ya no quedan timers pendientes.
+         */
+        private boolean expire(DeadlineKind kind) {
+            if (kind == DeadlineKind.REMINDER) {
+                reminder = null;
+            } else {
+                overdue = null;
+            }
+            return reminder == null && overdue == null;
+        }
+    }
+}
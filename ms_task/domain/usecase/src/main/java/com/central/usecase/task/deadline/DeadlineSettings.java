@@ -0,0 +1,23 @@
+package com.central.usecase.task.deadline;
+
+import java.time.Duration;
+
+/**
+ * @param tick          resolución de la rueda: un evento sale como máximo un tick tarde.
+ * @param horizon       ventana hacia adelante que se mantiene en memoria; lo posterior se carga en
+ *                      la siguiente recarga.
+ * @param reminderLead  anticipación del aviso previo; {@link Duration#ZERO} lo desactiva.
+ * @param maxBatchSize  eventos por lote verificado y publicado.
+ */
+public record DeadlineSettings(Duration tick, Duration horizon, Duration reminderLead, int maxBatchSize) {
+
+    public DeadlineSettings {
+        if (tick.isNegative() || tick.isZero() || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("tick y maxBatchSize deben ser positivos");
+        }
+        // Un aviso solo se programa si su tarea ya está en memoria cuando le toca salir
+        if (horizon.compareTo(reminderLead.plus(tick)) <= 0) {
+            throw new IllegalArgumentException("horizon debe superar reminderLead");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.central.usecase.task.deadline;
+
+import com.central.model.task.Task;
+import com.central.model.task.gateways.TaskBulkRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+/**
+ * Programa en el {@link DeadlineScheduler} cada tarea que pasa por la escritura masiva. Se hace al
+ * entrar al lote: si la escritura falla, la verificación previa a publicar descarta el evento.
+ */
+@RequiredArgsConstructor
+public class DeadlineTrackingTaskBulkRepository implements TaskBulkRepository {
+    private final TaskBulkRepository delegate;
+    private final DeadlineScheduler scheduler;
+
+    @Override
+    public Flux<Task> upsertAll(Flux<Task> tasks) {
+        return delegate.upsertAll(tasks.doOnNext(scheduler::track));
+    }
+}
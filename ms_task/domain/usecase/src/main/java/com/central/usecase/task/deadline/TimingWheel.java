@@ -0,0 +1,225 @@
+package com.central.usecase.task.deadline;
+
+import java.util.function.Consumer;
+
+/**
+ * Rueda de tiempo jerárquica (Varghese y Lauck): {@code levels} ruedas de {@code 2^slotBits}
+ * casillas donde cada casilla del nivel {@code n} abarca una vuelta completa del nivel {@code n-1}.
+ * <ul>
+ *     <li>Programar calcula nivel y casilla con aritmética de bits y enlaza el timer a una lista
+ *     doblemente enlazada: O(1).</li>
+ *     <li>Cancelar desenlaza el timer de su lista: O(1), sin búsquedas.</li>
+ *     <li>Cada tick vence la casilla actual del nivel 0; cuando un nivel completa su vuelta se
+ *     reparte la casilla siguiente del nivel superior entre los niveles inferiores.</li>
+ * </ul>
+ * Los plazos más allá del alcance del nivel superior se guardan en su última casilla y se vuelven a
+ * ubicar cuando esta se reparte, así que nunca vencen antes de tiempo.
+ * <p>
+ * No es thread-safe: {@link DeadlineScheduler} la protege con su lock.
+ *
+ * @param <T> dato que se entrega al vencer el timer.
+ */
+public final class TimingWheel<T> {
+    private final long tickMillis;
+    private final int slotBits;
+    private final long slotMask;
+    private final int levels;
+    private final long maxDelta;
+    private final Timer<T>[][] buckets;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int slotBits, int levels, long startMillis) {
+        if (tickMillis <= 0 || slotBits <= 0 || levels <= 0 || (long) slotBits * levels >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("Configuración de rueda inválida");
+        }
+        this.tickMillis = tickMillis;
+        this.slotBits = slotBits;
+        this.slotMask = (1L << slotBits) - 1;
+        this.levels = levels;
+        this.maxDelta = (1L << (slotBits * levels)) - 1;
+        this.buckets = new Timer[levels][1 << slotBits];
+        for (Timer<T>[] level : buckets) {
+            for (int slot = 0; slot < level.length; slot++) {
+                level[slot] = Timer.sentinel();
+            }
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Programa {@code payload} para el primer tick en o después de {@code fireAtMillis}. Un plazo
+     * ya vencido sale en el próximo {@link #advance}.
+     */
+    public Timer<T> schedule(long fireAtMillis, T payload) {
+        Timer<T> timer = new Timer<>(payload, Math.max(Math.ceilDiv(fireAtMillis, tickMillis), currentTick + 1));
+        place(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * @return {@code false} si el timer ya había vencido o estaba cancelado.
+     */
+    public boolean cancel(Timer<T> timer) {
+        if (!timer.isPending()) {
+            return false;
+        }
+        timer.unlink();
+        size--;
+        return true;
+    }
+
+    /**
+     * Avanza la rueda hasta {@code nowMillis} entregando a {@code expired} cada timer vencido en
+     * orden de tick. Con la rueda vacía salta directo al destino.
+     *
+     * @return cantidad de timers vencidos.
+     */
+    public int advance(long nowMillis, Consumer<T> expired) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        int fired = 0;
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                currentTick = targetTick;
+                break;
+            }
+            fired += tick(expired);
+        }
+        return fired;
+    }
+
+    /**
+     * Descarta todos los timers pendientes y reubica la rueda en {@code startMillis}.
+     */
+    public void clear(long startMillis) {
+        for (Timer<T>[] level : buckets) {
+            for (Timer<T> head : level) {
+                while (head.next != head) {
+                    head.next.unlink();
+                }
+            }
+        }
+        size = 0;
+        currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return instante hasta el que la rueda ya venció todo lo programado.
+     */
+    public long currentTimeMillis() {
+        return currentTick * tickMillis;
+    }
+
+    private int tick(Consumer<T> expired) {
+        currentTick++;
+        for (int level = 1; level < levels; level++) {
+            int shift = slotBits * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                break;
+            }
+            cascade(buckets[level][(int) ((currentTick >>> shift) & slotMask)]);
+        }
+
+        Timer<T> timer = detach(buckets[0][(int) (currentTick & slotMask)]);
+        int fired = 0;
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            if (timer.deadlineTick > currentTick) {
+                // Plazo más allá del alcance de una rueda de un solo nivel: da otra vuelta
+                place(timer);
+            } else {
+                timer.prev = null;
+                timer.next = null;
+                size--;
+                fired++;
+                expired.accept(timer.payload);
+            }
+            timer = next;
+        }
+        return fired;
+    }
+
+    private void cascade(Timer<T> head) {
+        Timer<T> timer = detach(head);
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            place(timer);
+            timer = next;
+        }
+    }
+
+    /**
+     * Separa la lista entera de la casilla antes de recorrerla: un timer reubicado puede volver a
+     * la misma casilla. El último nodo devuelto apunta a {@code null}.
+     */
+    private static <T> Timer<T> detach(Timer<T> head) {
+        if (head.next == head) {
+            return null;
+        }
+        Timer<T> first = head.next;
+        head.prev.next = null;
+        head.next = head;
+        head.prev = head;
+        return first;
+    }
+
+    private void place(Timer<T> timer) {
+        long delta = Math.min(Math.max(timer.deadlineTick - currentTick, 0), maxDelta);
+        int level = 0;
+        while (level < levels - 1 && delta >= 1L << (slotBits * (level + 1))) {
+            level++;
+        }
+        long slot = ((currentTick + delta) >>> (slotBits * level)) & slotMask;
+        buckets[level][(int) slot].append(timer);
+    }
+
+    /**
+     * Nodo intrusivo de la lista de una casilla; quien programa lo conserva para cancelar en O(1).
+     */
+    public static final class Timer<T> {
+        private final T payload;
+        private final long deadlineTick;
+        private Timer<T> prev;
+        private Timer<T> next;
+
+        private Timer(T payload, long deadlineTick) {
+            this.payload = payload;
+            this.deadlineTick = deadlineTick;
+        }
+
+        private static <T> Timer<T> sentinel() {
+            Timer<T> head = new Timer<>(null, Long.MAX_VALUE);
+            head.prev = head;
+            head.next = head;
+            return head;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        public boolean isPending() {
+            return next != null;
+        }
+
+        private void append(Timer<T> timer) {
+            timer.prev = prev;
+            timer.next = this;
+            prev.next = timer;
+            prev = timer;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.central.usecase.task.search;
+
+/**
+ * Operaciones sobre mapas de bits en {@code long[]}, un documento por bit. Un arreglo más corto
+ * que otro se trata como si terminara en ceros.
+ */
+final class Bitmaps {
+
+    private Bitmaps() {
+    }
+
+    static int wordsFor(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    static void clear(long[] bits, int index) {
+        bits[index >>> 6] &= ~(1L << index);
+    }
+
+    static boolean get(long[] bits, int index) {
+        int word = index >>> 6;
+        return word < bits.length && (bits[word] & 1L << index) != 0;
+    }
+
+    static void and(long[] target, long[] other) {
+        int words = Math.min(target.length, other.length);
+        for (int i = 0; i < words; i++) {
+            target[i] &= other[i];
+        }
+        for (int i = words; i < target.length; i++) {
+            target[i] = 0L;
+        }
+    }
+
+    static void or(long[] target, long[] other) {
+        int words = Math.min(target.length, other.length);
+        for (int i = 0; i < words; i++) {
+            target[i] |= other[i];
+        }
+    }
+
+    static long cardinality(long[] bits) {
+        long total = 0;
+        for (long word : bits) {
+            total += Long.bitCount(word);
+        }
+        return total;
+    }
+}
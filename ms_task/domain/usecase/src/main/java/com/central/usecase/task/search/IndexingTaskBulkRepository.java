@@ -0,0 +1,21 @@
+package com.central.usecase.task.search;
+
+import com.central.model.task.Task;
+import com.central.model.task.gateways.TaskBulkRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+/**
+ * Indexa las tareas de la escritura masiva a medida que el repositorio las devuelve, es decir, cuando
+ * la transacción de su lote ya confirmó: un lote que falla no deja tareas en el índice.
+ */
+@RequiredArgsConstructor
+public class IndexingTaskBulkRepository implements TaskBulkRepository {
+    private final TaskBulkRepository delegate;
+    private final TaskSearchUseCase search;
+
+    @Override
+    public Flux<Task> upsertAll(Flux<Task> tasks) {
+        return delegate.upsertAll(tasks).doOnNext(search::index);
+    }
+}
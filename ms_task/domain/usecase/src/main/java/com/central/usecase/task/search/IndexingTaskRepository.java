@@ -0,0 +1,49 @@
+package com.central.usecase.task.search;
+
+import com.central.model.task.Task;
+import com.central.model.task.gateways.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Decorador del {@link TaskRepository} que lleva cada escritura confirmada al índice de búsqueda.
+ */
+@RequiredArgsConstructor
+public class IndexingTaskRepository implements TaskRepository {
+    private final TaskRepository delegate;
+    private final TaskSearchUseCase search;
+
+    @Override
+    public Mono<Task> create(Task task) {
+        return delegate.create(task).doOnNext(search::index);
+    }
+
+    @Override
+    public Mono<Task> update(Task task) {
+        return delegate.update(task).doOnNext(search::index);
+    }
+
+    @Override
+    public Mono<Task> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Flux<Task> findAllById(Collection<UUID> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return delegate.deleteById(id).doOnSuccess(ignored -> search.remove(id));
+    }
+
+    @Override
+    public Flux<Task> findPageAfter(UUID afterId, int limit) {
+        return delegate.findPageAfter(afterId, limit);
+    }
+}
@@ -0,0 +1,60 @@
+package com.central.usecase.task.search;
+
+import java.util.Arrays;
+
+/**
+ * Lista de posiciones sobre un {@code int[]} que crece por duplicación, sin boxing. Los ids de
+ * documento se asignan en orden creciente, así que agregar al final la mantiene ordenada.
+ */
+final class IntList {
+    private int[] values;
+    private int size;
+
+    IntList() {
+        this(4);
+    }
+
+    IntList(int capacity) {
+        this.values = new int[capacity];
+    }
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return values.length;
+    }
+
+    /**
+     * Reemplaza cada valor por {@code mapping[valor]} y descarta los que quedan en {@code -1}. Si
+     * el mapeo es creciente, la lista sigue ordenada.
+     */
+    void remap(int[] mapping) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int mapped = mapping[values[i]];
+            if (mapped >= 0) {
+                values[kept++] = mapped;
+            }
+        }
+        size = kept;
+    }
+
+    void trim() {
+        if (values.length > size) {
+            values = Arrays.copyOf(values, Math.max(size, 1));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.central.usecase.task.search;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Documentos de un término o etiqueta. Mientras el término es poco frecuente se guardan como lista
+ * ordenada de ids; cuando aparece en al menos uno de cada {@value #DENSE_RATIO} documentos pasa a
+ * un mapa de bits, que a esa densidad ocupa lo mismo o menos que la lista y se combina de a 64
+ * documentos por operación. Los documentos dados de baja no se quitan: los filtra el bit de
+ * vigencia del índice y desaparecen al compactar.
+ */
+final class Postings {
+    static final int DENSE_RATIO = 32;
+    private static final int DENSE_MIN = 1024;
+
+    private IntList list = new IntList();
+    private long[] bitmap;
+    private int count;
+
+    /**
+     * @param universe documentos del índice contando el nuevo, para decidir la representación.
+     */
+    void add(int doc, int universe) {
+        count++;
+        if (bitmap != null) {
+            int word = doc >>> 6;
+            if (word >= bitmap.length) {
+                bitmap = Arrays.copyOf(bitmap, Math.max(word + 1, bitmap.length * 2));
+            }
+            bitmap[word] |= 1L << doc;
+            return;
+        }
+        list.add(doc);
+        if (isDenseFor(count, universe)) {
+            toBitmap(universe);
+        }
+    }
+
+    boolean isDense() {
+        return bitmap != null;
+    }
+
+    /**
+     * @return documentos incluidos, contando los dados de baja desde la última compactación.
+     */
+    int size() {
+        return count;
+    }
+
+    IntList list() {
+        return list;
+    }
+
+    long[] bitmap() {
+        return bitmap;
+    }
+
+    /**
+     * Aplica la renumeración de la compactación y vuelve a elegir la representación; una lista que
+     * dejó de ser frecuente vuelve a lista recién a la mitad del umbral para no oscilar.
+     *
+     * @return {@code false} si no quedó ningún documento.
+     */
+    boolean remap(int[] mapping, int universe) {
+        if (bitmap == null) {
+            list.remap(mapping);
+            count = list.size();
+            if (isDenseFor(count, universe)) {
+                toBitmap(universe);
+            } else {
+                list.trim();
+            }
+            return count > 0;
+        }
+        long[] remapped = new long[Bitmaps.wordsFor(universe)];
+        forEachDoc(bitmap, Math.min(mapping.length, bitmap.length << 6), doc -> {
+            int target = mapping[doc];
+            if (target >= 0) {
+                Bitmaps.set(remapped, target);
+            }
+        });
+        count = (int) Bitmaps.cardinality(remapped);
+        bitmap = remapped;
+        if ((long) count * DENSE_RATIO * 2 < universe) {
+            IntList sparse = new IntList(Math.max(count, 1));
+            forEachDoc(bitmap, bitmap.length << 6, sparse::add);
+            list = sparse;
+            bitmap = null;
+        }
+        return count > 0;
+    }
+
+    void trim() {
+        if (bitmap == null) {
+            list.trim();
+        }
+    }
+
+    long bytes() {
+        return bitmap != null ? 16 + (long) bitmap.length * Long.BYTES : 24 + 16 + (long) list.capacity() * Integer.BYTES;
+    }
+
+    private static boolean isDenseFor(int count, int universe) {
+        return count >= DENSE_MIN && (long) count * DENSE_RATIO >= universe;
+    }
+
+    private void toBitmap(int universe) {
+        bitmap = new long[Bitmaps.wordsFor(universe)];
+        for (int i = 0; i < list.size(); i++) {
+            Bitmaps.set(bitmap, list.get(i));
+        }
+        list = null;
+    }
+
+    private static void forEachDoc(long[] bits, int limit, IntConsumer action) {
+        for (int word = 0; word < bits.length; word++) {
+            long value = bits[word];
+            while (value != 0) {
+                int doc = (word << 6) + Long.numberOfTrailingZeros(value);
+                if (doc >= limit) {
+                    return;
+                }
+                value &= value - 1;
+                action.accept(doc);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.central.usecase.task.search;
+
+import com.central.model.task.TaskStatus;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Consulta al índice. Cada filtro presente se combina con AND; dentro de {@code text} y
+ * {@code tags}, {@code textOperator} y {@code tagOperator} deciden si deben estar todos los
+ * términos (AND) o alcanza con alguno (OR). {@code statuses} vacío significa cualquier estado.
+ *
+ * @param limit cantidad máxima de tareas devueltas, ordenadas por vencimiento (las que no tienen
+ *              vencimiento van al final).
+ */
+public record TaskQuery(String text, Operator textOperator, List<String> tags, Operator tagOperator,
+                        Set<TaskStatus> statuses, int limit) {
+
+    public enum Operator {
+        AND,
+        OR
+    }
+
+    public TaskQuery {
+        textOperator = textOperator == null ? Operator.AND : textOperator;
+        tagOperator = tagOperator == null ? Operator.AND : tagOperator;
+        tags = tags == null ? List.of() : List.copyOf(tags);
+        statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+    }
+}
@@ -0,0 +1,461 @@
+package com.central.usecase.task.search;
+
+import com.central.model.task.Task;
+import com.central.model.task.TaskStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.central.usecase.task.search.Bitmaps.and;
+import static com.central.usecase.task.search.Bitmaps.cardinality;
+import static com.central.usecase.task.search.Bitmaps.clear;
+import static com.central.usecase.task.search.Bitmaps.get;
+import static com.central.usecase.task.search.Bitmaps.or;
+import static com.central.usecase.task.search.Bitmaps.set;
+import static com.central.usecase.task.search.Bitmaps.wordsFor;
+
+/**
+ * Índice invertido en memoria sobre el texto (título y descripción), las etiquetas y el estado de
+ * las tareas.
+ * <ul>
+ *     <li>Cada tarea recibe un id de documento secuencial; término y etiqueta apuntan a una lista
+ *     ordenada de esos ids en un {@code int[]}, o a un mapa de bits si son frecuentes
+ *     ({@link Postings}).</li>
+ *     <li>El estado y la vigencia de cada documento son mapas de bits ({@code long[]}), así que
+ *     filtrar por estado cuesta una pasada de AND/OR de palabras de 64 bits.</li>
+ *     <li>Actualizar una tarea la da de baja (se apaga su bit de vigencia) y la agrega con un id
+ *     nuevo al final: las listas siguen ordenadas sin reescribirse. Cuando más de la mitad de los
+ *     documentos están dados de baja, el índice se compacta; el costo amortizado sigue siendo O(1).</li>
+ * </ul>
+ * Las consultas toman el lock de lectura y las escrituras el de escritura; ninguna sección hace I/O.
+ */
+public class TaskSearchIndex {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int COMPACT_MIN_DELETED = 1024;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> terms = new HashMap<>();
+    private final Map<String, Postings> tags = new HashMap<>();
+    private final Map<UUID, Integer> docIds = new HashMap<>();
+    private final Set<UUID> removedWhileLoading = new HashSet<>();
+    private final long[][] statusBits = new long[STATUSES.length][];
+    private Task[] docs = new Task[INITIAL_CAPACITY];
+    private long[] dueKeys = new long[INITIAL_CAPACITY];
+    private long[] live = new long[INITIAL_CAPACITY >>> 6];
+    private int size;
+    private int deleted;
+    private boolean loading = true;
+
+    public TaskSearchIndex() {
+        for (int i = 0; i < STATUSES.length; i++) {
+            statusBits[i] = new long[live.length];
+        }
+    }
+
+    /**
+     * Agrega o reemplaza la tarea. Se ignora si el índice ya tiene una versión más nueva.
+     */
+    public void index(Task task) {
+        lock.writeLock().lock();
+        try {
+            Integer current = docIds.get(task.id());
+            if (current != null) {
+                if (docs[current].updatedAt() > task.updatedAt()) {
+                    return;
+                }
+                delete(current);
+            }
+            add(task);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Integer current = docIds.get(id);
+            if (current != null) {
+                delete(current);
+                compactIfNeeded();
+            }
+            if (loading) {
+                removedWhileLoading.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Variante para la carga inicial, que lee filas que pueden ser anteriores a los cambios que ya
+     * llegaron por {@link #index} y {@link #remove}: no pisa versiones iguales o más nuevas ni
+     * revive tareas borradas durante la carga.
+     */
+    public void load(Task task) {
+        lock.writeLock().lock();
+        try {
+            if (removedWhileLoading.contains(task.id())) {
+                return;
+            }
+            Integer current = docIds.get(task.id());
+            if (current != null) {
+                if (docs[current].updatedAt() >= task.updatedAt()) {
+                    return;
+                }
+                delete(current);
+            }
+            add(task);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Termina la carga: descarta las marcas de borrado y recorta las listas al tamaño justo.
+     */
+    public void finishLoading() {
+        lock.writeLock().lock();
+        try {
+            loading = false;
+            removedWhileLoading.clear();
+            compactIfNeeded();
+            terms.values().forEach(Postings::trim);
+            tags.values().forEach(Postings::trim);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public TaskSearchResult search(TaskQuery query) {
+        lock.readLock().lock();
+        try {
+            int words = wordsFor(size);
+            long[] matches = Arrays.copyOf(live, words);
+            if (!query.statuses().isEmpty()) {
+                long[] statuses = new long[words];
+                for (TaskStatus status : query.statuses()) {
+                    or(statuses, statusBits[status.ordinal()]);
+                }
+                and(matches, statuses);
+            }
+            Set<String> queryTerms = TextAnalyzer.terms(query.text());
+            if (!queryTerms.isEmpty()) {
+                match(matches, terms, queryTerms, query.textOperator());
+            }
+            if (!query.tags().isEmpty()) {
+                Set<String> queryTags = new HashSet<>();
+                query.tags().forEach(tag -> queryTags.add(tag.strip().toLowerCase(Locale.ROOT)));
+                match(matches, tags, queryTags, query.tagOperator());
+            }
+            return new TaskSearchResult(cardinality(matches), topByDueDate(matches, query.limit()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documents() {
+        lock.readLock().lock();
+        try {
+            return docIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int distinctTerms() {
+        lock.readLock().lock();
+        try {
+            return terms.size() + tags.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimación de la memoria propia del índice: listas, mapas de bits, arreglos por documento y
+     * entradas de los mapas. No incluye las tareas, que se comparten con el resto de la aplicación.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = (long) docs.length * (Integer.BYTES + Long.BYTES)
+                    + (long) live.length * Long.BYTES * (1 + STATUSES.length)
+                    // Entrada de HashMap e Integer por documento; el UUID es el de la tarea
+                    + (long) docIds.size() * (32 + 16);
+            bytes += postingBytes(terms) + postingBytes(tags);
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Task task) {
+        ensureCapacity(size + 1);
+        int doc = size++;
+        docs[doc] = task;
+        dueKeys[doc] = task.hasDueDate() ? task.dueDate() : Long.MAX_VALUE;
+        docIds.put(task.id(), doc);
+        set(live, doc);
+        set(statusBits[task.status().ordinal()], doc);
+        for (String term : TextAnalyzer.terms(task.title(), task.description())) {
+            terms.computeIfAbsent(term, key -> new Postings()).add(doc, size);
+        }
+        for (String tag : task.tags()) {
+            tags.computeIfAbsent(tag, key -> new Postings()).add(doc, size);
+        }
+    }
+
+    private void delete(int doc) {
+        Task task = docs[doc];
+        docIds.remove(task.id());
+        clear(live, doc);
+        clear(statusBits[task.status().ordinal()], doc);
+        docs[doc] = null;
+        deleted++;
+    }
+
+    private void compactIfNeeded() {
+        if (deleted >= COMPACT_MIN_DELETED && deleted * 2 > size) {
+            compact();
+        }
+    }
+
+    /**
+     * Renumera los documentos vigentes en el mismo orden y filtra las listas con ese mapeo, sin
+     * volver a analizar el texto.
+     */
+    private void compact() {
+        int[] mapping = new int[size];
+        int alive = 0;
+        for (int doc = 0; doc < size; doc++) {
+            mapping[doc] = docs[doc] != null ? alive++ : -1;
+        }
+        int capacity = Math.max(INITIAL_CAPACITY, alive + alive / 4);
+        Task[] compactedDocs = new Task[capacity];
+        long[] compactedDueKeys = new long[capacity];
+        live = new long[wordsFor(capacity)];
+        for (int i = 0; i < STATUSES.length; i++) {
+            statusBits[i] = new long[live.length];
+        }
+        for (int doc = 0; doc < size; doc++) {
+            int target = mapping[doc];
+            if (target >= 0) {
+                Task task = docs[doc];
+                compactedDocs[target] = task;
+                compactedDueKeys[target] = dueKeys[doc];
+                docIds.put(task.id(), target);
+                set(live, target);
+                set(statusBits[task.status().ordinal()], target);
+            }
+        }
+        docs = compactedDocs;
+        dueKeys = compactedDueKeys;
+        size = alive;
+        deleted = 0;
+        remapPostings(terms, mapping, alive);
+        remapPostings(tags, mapping, alive);
+    }
+
+    private static void remapPostings(Map<String, Postings> postings, int[] mapping, int universe) {
+        postings.values().removeIf(posting -> !posting.remap(mapping, universe));
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= docs.length) {
+            return;
+        }
+        int grown = Math.max(capacity, docs.length * 2);
+        docs = Arrays.copyOf(docs, grown);
+        dueKeys = Arrays.copyOf(dueKeys, grown);
+        live = Arrays.copyOf(live, wordsFor(grown));
+        for (int i = 0; i < STATUSES.length; i++) {
+            statusBits[i] = Arrays.copyOf(statusBits[i], live.length);
+        }
+    }
+
+    /**
+     * Restringe {@code matches} a los documentos con todas ({@code AND}) o alguna ({@code OR}) de
+     * las claves. Los mapas de bits se combinan palabra a palabra; las listas de AND se intersecan
+     * empezando por la más corta, y las de OR se vuelcan a un mapa de bits.
+     */
+    private static void match(long[] matches, Map<String, Postings> postings, Set<String> keys,
+                              TaskQuery.Operator operator) {
+        List<Postings> found = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            Postings posting = postings.get(key);
+            if (posting != null) {
+                found.add(posting);
+            } else if (operator == TaskQuery.Operator.AND) {
+                Arrays.fill(matches, 0L);
+                return;
+            }
+        }
+        if (operator == TaskQuery.Operator.OR) {
+            long[] any = new long[matches.length];
+            for (Postings posting : found) {
+                if (posting.isDense()) {
+                    or(any, posting.bitmap());
+                } else {
+                    IntList list = posting.list();
+                    for (int i = 0; i < list.size(); i++) {
+                        set(any, list.get(i));
+                    }
+                }
+            }
+            and(matches, any);
+            return;
+        }
+        List<IntList> lists = new ArrayList<>(found.size());
+        for (Postings posting : found) {
+            if (posting.isDense()) {
+                and(matches, posting.bitmap());
+            } else {
+                lists.add(posting.list());
+            }
+        }
+        if (lists.isEmpty()) {
+            return;
+        }
+        lists.sort(Comparator.comparingInt(IntList::size));
+        IntList smallest = lists.get(0);
+        long[] all = new long[matches.length];
+        int[] cursors = new int[lists.size()];
+        candidates:
+        for (int i = 0; i < smallest.size(); i++) {
+            int doc = smallest.get(i);
+            if (!get(matches, doc)) {
+                continue;
+            }
+            for (int l = 1; l < lists.size(); l++) {
+                IntList list = lists.get(l);
+                cursors[l] = advanceTo(list, cursors[l], doc);
+                if (cursors[l] == list.size()) {
+                    break candidates;
+                }
+                if (list.get(cursors[l]) != doc) {
+                    continue candidates;
+                }
+            }
+            set(all, doc);
+        }
+        System.arraycopy(all, 0, matches, 0, matches.length);
+    }
+
+    /**
+     * Búsqueda galopante: primera posición desde {@code from} con valor {@code >= target}.
+     */
+    private static int advanceTo(IntList list, int from, int target) {
+        int bound = 1;
+        int low = from;
+        while (low + bound < list.size() && list.get(low + bound) < target) {
+            low += bound;
+            bound <<= 1;
+        }
+        int high = Math.min(low + bound, list.size());
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (list.get(mid) < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Selección de los {@code limit} menores por vencimiento con un montículo de máximos sobre
+     * arreglos primitivos; la mayoría de los candidatos se descarta con una sola comparación.
+     */
+    private List<Task> topByDueDate(long[] matches, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        int[] heap = new int[limit];
+        int heapSize = 0;
+        // Vencimiento del peor elemento del montículo lleno: lo único que se compara en el caso común
+        long threshold = Long.MAX_VALUE;
+        for (int word = 0; word < matches.length; word++) {
+            long bits = matches[word];
+            while (bits != 0) {
+                int doc = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (heapSize < limit) {
+                    heap[heapSize] = doc;
+                    siftUp(heap, heapSize++);
+                    if (heapSize == limit) {
+                        threshold = dueKeys[heap[0]];
+                    }
+                } else if (dueKeys[doc] < threshold) {
+                    heap[0] = doc;
+                    siftDown(heap, heapSize);
+                    threshold = dueKeys[heap[0]];
+                }
+            }
+        }
+        Integer[] top = new Integer[heapSize];
+        for (int i = 0; i < heapSize; i++) {
+            top[i] = heap[i];
+        }
+        Arrays.sort(top, Comparator.<Integer>comparingLong(doc -> dueKeys[doc]).thenComparingInt(doc -> doc));
+        List<Task> tasks = new ArrayList<>(heapSize);
+        for (Integer doc : top) {
+            tasks.add(docs[doc]);
+        }
+        return tasks;
+    }
+
+    private void siftUp(int[] heap, int index) {
+        int doc = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (dueKeys[heap[parent]] >= dueKeys[doc]) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = doc;
+    }
+
+    private void siftDown(int[] heap, int heapSize) {
+        int doc = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && dueKeys[heap[child + 1]] > dueKeys[heap[child]]) {
+                child++;
+            }
+            if (dueKeys[heap[child]] <= dueKeys[doc]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = doc;
+    }
+
+    private static long postingBytes(Map<String, Postings> postings) {
+        long bytes = 0;
+        for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+            // Entrada del mapa, String con su arreglo y Postings con su lista o mapa de bits
+            bytes += 32 + 40 + entry.getKey().length() + 24 + entry.getValue().bytes();
+        }
+        return bytes;
+    }
+}
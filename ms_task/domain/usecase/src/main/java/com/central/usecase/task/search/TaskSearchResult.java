@@ -0,0 +1,12 @@
+package com.central.usecase.task.search;
+
+import com.central.model.task.Task;
+
+import java.util.List;
+
+/**
+ * @param total coincidencias en todo el índice, no solo las devueltas.
+ * @param tasks las primeras {@code limit} coincidencias por vencimiento.
+ */
+public record TaskSearchResult(long total, List<Task> tasks) {
+}
@@ -0,0 +1,127 @@
+package com.central.usecase.task.search;
+
+import com.central.model.exception.OverloadedException;
+import com.central.model.task.Task;
+import com.central.model.task.gateways.TaskRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Búsqueda por texto, etiquetas y estado sobre un {@link TaskSearchIndex} en memoria.
+ * <p>
+ * {@link #rebuild()} arma un índice nuevo recorriendo el repositorio por páginas y lo publica al
+ * terminar. Mientras tanto los cambios del camino de escritura ({@link #index}, {@link #remove})
+ * se aplican al índice vigente y al que se está armando, así que ninguno se pierde en el cambio.
+ * Cada instancia solo ve sus propias escrituras entre reconstrucciones.
+ * <p>
+ * Las escrituras leen {@code building} antes que {@code current}; la reconstrucción publica en el
+ * orden inverso ({@code current} y después {@code building = null}). Así una escritura que llega
+ * durante la publicación ve el índice nuevo en alguna de las dos lecturas.
+ */
+public class TaskSearchUseCase {
+    private static final Duration RETRY_WHILE_LOADING = Duration.ofSeconds(1);
+
+    private final TaskRepository taskRepository;
+    private final int loadPageSize;
+    private final int maxLimit;
+    private final Supplier<TaskSearchIndex> indexFactory;
+    private volatile TaskSearchIndex current;
+    private volatile TaskSearchIndex building;
+
+    public TaskSearchUseCase(TaskRepository taskRepository, int loadPageSize, int maxLimit) {
+        this(taskRepository, loadPageSize, maxLimit, TaskSearchIndex::new);
+    }
+
+    TaskSearchUseCase(TaskRepository taskRepository, int loadPageSize, int maxLimit,
+                      Supplier<TaskSearchIndex> indexFactory) {
+        this.taskRepository = taskRepository;
+        this.loadPageSize = loadPageSize;
+        this.maxLimit = maxLimit;
+        this.indexFactory = indexFactory;
+    }
+
+    public Mono<TaskSearchResult> search(TaskQuery query) {
+        return Mono.fromCallable(() -> {
+            TaskSearchIndex index = current;
+            if (index == null) {
+                throw new OverloadedException("El índice de búsqueda se está cargando", RETRY_WHILE_LOADING);
+            }
+            int limit = Math.clamp(query.limit(), 0, maxLimit);
+            return index.search(new TaskQuery(query.text(), query.textOperator(), query.tags(),
+                    query.tagOperator(), query.statuses(), limit));
+        });
+    }
+
+    public void index(Task task) {
+        TaskSearchIndex loading = building;
+        if (loading != null) {
+            loading.index(task);
+        }
+        TaskSearchIndex index = current;
+        if (index != null && index != loading) {
+            index.index(task);
+        }
+    }
+
+    public void remove(UUID id) {
+        TaskSearchIndex loading = building;
+        if (loading != null) {
+            loading.remove(id);
+        }
+        TaskSearchIndex index = current;
+        if (index != null && index != loading) {
+            index.remove(id);
+        }
+    }
+
+    /**
+     * @return tareas cargadas en el índice nuevo.
+     */
+    public Mono<Long> rebuild() {
+        return Mono.defer(() -> {
+            TaskSearchIndex index = indexFactory.get();
+            building = index;
+            return fetchPage(null)
+                    .expand(page -> page.size() < loadPageSize
+                            ? Mono.empty()
+                            : fetchPage(page.get(page.size() - 1).id()))
+                    .reduce(0L, (loaded, page) -> {
+                        page.forEach(index::load);
+                        return loaded + page.size();
+                    })
+                    .doOnSuccess(loaded -> {
+                        index.finishLoading();
+                        current = index;
+                    })
+                    .doFinally(signal -> building = null);
+        });
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    public int documents() {
+        TaskSearchIndex index = current;
+        return index == null ? 0 : index.documents();
+    }
+
+    public int distinctTerms() {
+        TaskSearchIndex index = current;
+        return index == null ? 0 : index.distinctTerms();
+    }
+
+    public long estimatedBytes() {
+        TaskSearchIndex index = current;
+        return index == null ? 0 : index.estimatedBytes();
+    }
+
+    private Mono<List<Task>> fetchPage(UUID afterId) {
+        return taskRepository.findPageAfter(afterId, loadPageSize).collectList();
+    }
+}
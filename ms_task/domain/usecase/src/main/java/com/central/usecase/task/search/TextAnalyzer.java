@@ -0,0 +1,60 @@
+package com.central.usecase.task.search;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Parte el texto en términos: minúsculas, sin tildes ni diéresis, cortando en todo lo que no sea
+ * letra o dígito. Los términos de un carácter se descartan por ruidosos ("a", "y", "o").
+ */
+final class TextAnalyzer {
+    static final int MIN_TERM_LENGTH = 2;
+
+    private TextAnalyzer() {
+    }
+
+    static Set<String> terms(String... texts) {
+        Set<String> terms = new HashSet<>();
+        for (String text : texts) {
+            if (text != null) {
+                collect(text, terms);
+            }
+        }
+        return terms;
+    }
+
+    private static void collect(String text, Set<String> terms) {
+        String folded = isAscii(text) ? text : Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                term.append(c);
+            } else {
+                flush(term, terms);
+            }
+        }
+        flush(term, terms);
+    }
+
+    private static void flush(StringBuilder term, Set<String> terms) {
+        if (term.length() >= MIN_TERM_LENGTH) {
+            terms.add(term.toString().toLowerCase(Locale.ROOT));
+        }
+        term.setLength(0);
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,53 @@
+package com.central.usecase.task.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BitmapsTest {
+
+    @Test
+    void wordsForRoundsUp() {
+        assertEquals(0, Bitmaps.wordsFor(0));
+        assertEquals(1, Bitmaps.wordsFor(1));
+        assertEquals(1, Bitmaps.wordsFor(64));
+        assertEquals(2, Bitmaps.wordsFor(65));
+    }
+
+    @Test
+    void setGetAndClearAcrossWords() {
+        long[] bits = new long[2];
+        Bitmaps.set(bits, 3);
+        Bitmaps.set(bits, 64);
+        Bitmaps.set(bits, 127);
+
+        assertTrue(Bitmaps.get(bits, 64));
+        assertTrue(Bitmaps.get(bits, 127));
+        assertFalse(Bitmaps.get(bits, 63));
+        // Fuera del arreglo se lee como cero
+        assertFalse(Bitmaps.get(bits, 1_000));
+        assertEquals(3, Bitmaps.cardinality(bits));
+
+        Bitmaps.clear(bits, 64);
+        assertFalse(Bitmaps.get(bits, 64));
+        assertEquals(2, Bitmaps.cardinality(bits));
+    }
+
+    @Test
+    void shorterOperandsActAsZeroPadded() {
+        long[] target = {0b1111L, -1L};
+        Bitmaps.and(target, new long[]{0b0101L});
+        assertArrayEquals(new long[]{0b0101L, 0L}, target);
+
+        long[] union = {0b0001L, 0L};
+        Bitmaps.or(union, new long[]{0b0010L});
+        assertArrayEquals(new long[]{0b0011L, 0L}, union);
+
+        long[] shortUnion = {0b0001L};
+        Bitmaps.or(shortUnion, new long[]{0b0100L, -1L});
+        assertArrayEquals(new long[]{0b0101L}, shortUnion);
+    }
+}
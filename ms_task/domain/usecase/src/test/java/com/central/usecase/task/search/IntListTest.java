@@ -0,0 +1,50 @@
+package com.central.usecase.task.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IntListTest {
+
+    @Test
+    void growsByDoubling() {
+        IntList list = new IntList(2);
+        for (int i = 0; i < 5; i++) {
+            list.add(i * 10);
+        }
+
+        assertEquals(5, list.size());
+        assertEquals(8, list.capacity());
+        assertEquals(40, list.get(4));
+    }
+
+    @Test
+    void remapRenumbersAndDropsUnmappedValues() {
+        IntList list = new IntList();
+        list.add(0);
+        list.add(2);
+        list.add(3);
+        list.add(5);
+
+        list.remap(new int[]{0, -1, 1, -1, -1, 2});
+
+        assertEquals(3, list.size());
+        assertEquals(0, list.get(0));
+        assertEquals(1, list.get(1));
+        assertEquals(2, list.get(2));
+    }
+
+    @Test
+    void trimShrinksToSizeButKeepsRoomForOne() {
+        IntList list = new IntList(16);
+        list.add(7);
+        list.trim();
+        assertEquals(1, list.capacity());
+
+        IntList empty = new IntList(16);
+        empty.trim();
+        assertEquals(1, empty.capacity());
+        empty.add(3);
+        assertEquals(3, empty.get(0));
+    }
+}
@@ -0,0 +1,66 @@
+package com.central.usecase.task.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostingsTest {
+
+    @Test
+    void staysAListWhileTheTermIsRare() {
+        Postings postings = new Postings();
+        for (int doc = 0; doc < 2_000; doc += Postings.DENSE_RATIO * 2) {
+            postings.add(doc, doc + 1);
+        }
+
+        assertFalse(postings.isDense());
+        assertEquals(32, postings.size());
+        assertEquals(64, postings.list().get(1));
+    }
+
+    @Test
+    void becomesABitmapOnceFrequentEnough() {
+        Postings postings = new Postings();
+        for (int doc = 0; doc < 1_024; doc++) {
+            postings.add(doc, doc + 1);
+        }
+
+        assertTrue(postings.isDense());
+        assertEquals(1_024, Bitmaps.cardinality(postings.bitmap()));
+        // Sigue creciendo como mapa de bits aunque el documento quede fuera del arreglo actual
+        postings.add(5_000, 5_001);
+        assertTrue(Bitmaps.get(postings.bitmap(), 5_000));
+        assertEquals(1_025, postings.size());
+    }
+
+    @Test
+    void remapDropsRemovedDocsAndReturnsToAListWhenSparse() {
+        Postings postings = new Postings();
+        for (int doc = 0; doc < 2_048; doc++) {
+            postings.add(doc, doc + 1);
+        }
+        // Solo sobreviven los múltiplos de 100: 21 de 2048 ya no justifican el mapa de bits
+        int[] mapping = IntStream.range(0, 2_048).map(doc -> doc % 100 == 0 ? doc : -1).toArray();
+
+        assertTrue(postings.remap(mapping, 2_048));
+
+        assertFalse(postings.isDense());
+        assertEquals(21, postings.size());
+        assertArrayEquals(IntStream.range(0, 21).map(i -> i * 100).toArray(),
+                IntStream.range(0, postings.list().size()).map(postings.list()::get).toArray());
+    }
+
+    @Test
+    void remapReportsWhenNothingIsLeft() {
+        Postings postings = new Postings();
+        postings.add(0, 1);
+        postings.add(1, 2);
+
+        assertFalse(postings.remap(new int[]{-1, -1}, 0));
+    }
+}
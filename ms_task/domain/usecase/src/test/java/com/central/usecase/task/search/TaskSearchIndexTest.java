@@ -0,0 +1,127 @@
+package com.central.usecase.task.search;
+
+import com.central.model.task.Task;
+import com.central.model.task.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskSearchIndexTest {
+    private final TaskSearchIndex index = new TaskSearchIndex();
+
+    @Test
+    void matchesTextWithAccentsAndCaseFolded() {
+        Task task = task("Revisión del contrato", "Llamar a José", List.of(), TaskStatus.PENDING, 0, 1);
+        index.index(task);
+
+        assertEquals(List.of(task), search("REVISION jose", null, List.of(), Set.of()).tasks());
+        assertEquals(0, search("revision ausente", null, List.of(), Set.of()).total());
+        assertEquals(1, search("revision ausente", TaskQuery.Operator.OR, List.of(), Set.of()).total());
+    }
+
+    @Test
+    void combinesTagsAndStatuses() {
+        Task urgentPending = task("uno", null, List.of("urgente", "cliente"), TaskStatus.PENDING, 0, 1);
+        Task urgentDone = task("dos", null, List.of("urgente"), TaskStatus.COMPLETED, 0, 1);
+        Task client = task("tres", null, List.of("cliente"), TaskStatus.IN_PROGRESS, 0, 1);
+        List.of(urgentPending, urgentDone, client).forEach(index::index);
+
+        assertEquals(List.of(urgentPending),
+                search(null, null, List.of("Urgente", "cliente"), Set.of()).tasks());
+        assertEquals(3, index.search(new TaskQuery(null, null, List.of("urgente", "cliente"), TaskQuery.Operator.OR,
+                Set.of(), 10)).total());
+        assertEquals(2, search(null, null, List.of("urgente"), Set.of()).total());
+        assertEquals(List.of(urgentPending),
+                search(null, null, List.of("urgente"), Set.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS)).tasks());
+    }
+
+    @Test
+    void ordersByDueDateWithoutDueDateLastAndCountsEveryMatch() {
+        Task late = task("tarea tarde", null, List.of(), TaskStatus.PENDING, 300, 1);
+        Task none = task("tarea sin fecha", null, List.of(), TaskStatus.PENDING, Task.NO_DUE_DATE, 1);
+        Task early = task("tarea temprana", null, List.of(), TaskStatus.PENDING, 100, 1);
+        Task middle = task("tarea media", null, List.of(), TaskStatus.PENDING, 200, 1);
+        List.of(late, none, early, middle).forEach(index::index);
+
+        TaskSearchResult result = index.search(new TaskQuery("tarea", null, null, null, null, 2));
+        assertEquals(4, result.total());
+        assertEquals(List.of(early, middle), result.tasks());
+        assertEquals(List.of(early, middle, late, none),
+                index.search(new TaskQuery("tarea", null, null, null, null, 10)).tasks());
+    }
+
+    @Test
+    void updateReplacesThePreviousVersionAndIgnoresOlderOnes() {
+        Task original = task("nombre viejo", null, List.of(), TaskStatus.PENDING, 0, 1);
+        Task renamed = original.toBuilder().title("nombre nuevo").updatedAt(2).build();
+        index.index(original);
+        index.index(renamed);
+        index.index(original);
+
+        assertEquals(0, search("viejo", null, List.of(), Set.of()).total());
+        assertEquals(List.of(renamed), search("nombre", null, List.of(), Set.of()).tasks());
+        assertEquals(1, index.documents());
+    }
+
+    @Test
+    void loadKeepsNewerWritesAndDoesNotReviveRemovedTasks() {
+        Task written = task("escrita", null, List.of(), TaskStatus.PENDING, 0, 5);
+        Task removed = task("borrada", null, List.of(), TaskStatus.PENDING, 0, 1);
+        index.index(written);
+        index.remove(removed.id());
+
+        index.load(written.toBuilder().title("fila vieja").updatedAt(5).build());
+        index.load(removed);
+        index.finishLoading();
+
+        assertEquals(List.of(written), search("escrita", null, List.of(), Set.of()).tasks());
+        assertEquals(0, search("vieja", null, List.of(), Set.of()).total());
+        assertEquals(0, search("borrada", null, List.of(), Set.of()).total());
+
+        // Terminada la carga, las marcas de borrado ya no aplican
+        index.index(removed);
+        assertEquals(1, search("borrada", null, List.of(), Set.of()).total());
+    }
+
+    @Test
+    void compactionKeepsResultsAndFrequentTermsAsBitmaps() {
+        List<Task> tasks = IntStream.range(0, 3_000)
+                .mapToObj(i -> task("común " + (i % 2 == 0 ? "par" : "impar"), null, List.of(), TaskStatus.PENDING,
+                        i + 1, 1))
+                .toList();
+        tasks.forEach(index::index);
+        // Borrar dos tercios dispara la compactación
+        tasks.stream().filter(task -> task.dueDate() % 3 != 0).forEach(task -> index.remove(task.id()));
+
+        assertEquals(1_000, index.documents());
+        assertEquals(1_000, search("comun", null, List.of(), Set.of()).total());
+        assertEquals(500, search("comun par", null, List.of(), Set.of()).total());
+        assertEquals(tasks.get(2), index.search(new TaskQuery("comun", null, null, null, null, 1)).tasks().get(0));
+        assertTrue(index.estimatedBytes() > 0);
+    }
+
+    private TaskSearchResult search(String text, TaskQuery.Operator textOperator, List<String> tags,
+                                    Set<TaskStatus> statuses) {
+        return index.search(new TaskQuery(text, textOperator, tags, null, statuses, 10));
+    }
+
+    private static Task task(String title, String description, List<String> tags, TaskStatus status, long dueDate,
+                             long updatedAt) {
+        return Task.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .description(description)
+                .tags(tags)
+                .status(status)
+                .dueDate(dueDate)
+                .createdAt(updatedAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,188 @@
+package com.central.usecase.task.search;
+
+import com.central.model.exception.OverloadedException;
+import com.central.model.task.Task;
+import com.central.model.task.TaskStatus;
+import com.central.model.task.gateways.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskSearchUseCaseTest {
+    private static final int PAGE_SIZE = 10;
+
+    private PagedRepository repository;
+    private HookedIndex first;
+    private HookedIndex second;
+    private TaskSearchUseCase search;
+
+    @BeforeEach
+    void setUp() {
+        repository = new PagedRepository();
+        first = new HookedIndex();
+        second = new HookedIndex();
+        Queue<TaskSearchIndex> indexes = new ArrayDeque<>(List.of(first, second));
+        search = new TaskSearchUseCase(repository, PAGE_SIZE, 100, indexes::remove);
+    }
+
+    @Test
+    void searchFailsUntilTheFirstRebuildFinishes() {
+        StepVerifier.create(search.search(query("tarea")))
+                .verifyError(OverloadedException.class);
+
+        repository.pages.add(Flux.just(task("tarea inicial", 1)));
+        StepVerifier.create(search.rebuild())
+                .expectNext(1L)
+                .verifyComplete();
+
+        assertTrue(search.isReady());
+        assertEquals(1, search.search(query("tarea")).block().total());
+    }
+
+    @Test
+    void writesDuringARebuildReachTheNewIndex() {
+        repository.pages.add(Flux.empty());
+        search.rebuild().block();
+        Sinks.One<List<Task>> page = Sinks.one();
+        repository.pages.add(page.asMono().flatMapIterable(tasks -> tasks));
+        search.rebuild().subscribe();
+
+        Task written = task("escrita durante la carga", 2);
+        search.index(written);
+        page.tryEmitValue(List.of());
+
+        assertEquals(List.of(written), search.search(query("escrita")).block().tasks());
+    }
+
+    /**
+     * La escritura lee el índice vigente y, mientras lo modifica, la reconstrucción publica el nuevo
+     * y limpia {@code building}: la escritura tiene que llegar igual al índice nuevo.
+     */
+    @Test
+    void indexRacingWithThePublishOfARebuildIsNotLost() {
+        Sinks.One<List<Task>> page = startSecondRebuild();
+        first.onWrite = () -> page.tryEmitValue(List.of());
+
+        Task written = task("escrita en la carrera", 2);
+        search.index(written);
+
+        assertTrue(search.isReady());
+        assertEquals(List.of(written), search.search(query("carrera")).block().tasks());
+    }
+
+    @Test
+    void removeRacingWithThePublishOfARebuildIsNotLost() {
+        Task stale = task("borrada en la carrera", 1);
+        Sinks.One<List<Task>> page = startSecondRebuild();
+        search.index(stale);
+        // La página que cierra la carga todavía trae la tarea: se leyó antes del borrado
+        first.onWrite = () -> page.tryEmitValue(List.of(stale));
+
+        search.remove(stale.id());
+
+        assertEquals(0, search.search(query("carrera")).block().total());
+    }
+
+    /**
+     * Publica {@code first} con una carga vacía y deja la siguiente reconstrucción, sobre
+     * {@code second}, esperando la única página que le queda.
+     */
+    private Sinks.One<List<Task>> startSecondRebuild() {
+        repository.pages.add(Flux.empty());
+        search.rebuild().block();
+        Sinks.One<List<Task>> page = Sinks.one();
+        repository.pages.add(page.asMono().flatMapIterable(tasks -> tasks));
+        search.rebuild().subscribe();
+        return page;
+    }
+
+    private static TaskQuery query(String text) {
+        return new TaskQuery(text, null, null, null, null, 10);
+    }
+
+    private static Task task(String title, long updatedAt) {
+        return Task.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .status(TaskStatus.PENDING)
+                .createdAt(updatedAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    /**
+     * Corre {@code onWrite} una vez, después de aplicar la próxima escritura.
+     */
+    private static final class HookedIndex extends TaskSearchIndex {
+        private Runnable onWrite;
+
+        @Override
+        public void index(Task task) {
+            super.index(task);
+            fire();
+        }
+
+        @Override
+        public void remove(UUID id) {
+            super.remove(id);
+            fire();
+        }
+
+        private void fire() {
+            Runnable hook = onWrite;
+            onWrite = null;
+            if (hook != null) {
+                hook.run();
+            }
+        }
+    }
+
+    /**
+     * Devuelve, en orden, una página por llamada a {@link #findPageAfter}.
+     */
+    private static final class PagedRepository implements TaskRepository {
+        private final Queue<Flux<Task>> pages = new ArrayDeque<>();
+
+        @Override
+        public Flux<Task> findPageAfter(UUID afterId, int limit) {
+            return pages.remove();
+        }
+
+        @Override
+        public Mono<Task> create(Task task) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Task> update(Task task) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Task> findById(UUID id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Flux<Task> findAllById(Collection<UUID> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Void> deleteById(UUID id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
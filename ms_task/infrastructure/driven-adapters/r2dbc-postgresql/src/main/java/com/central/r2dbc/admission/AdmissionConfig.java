@@ -0,0 +1,38 @@
+package com.central.r2dbc.admission;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionConfig {
+
+    @Bean
+    public AdmissionController admissionController(AdmissionProperties properties) {
+        return new AdmissionController(properties);
+    }
+
+    @Bean
+    public MeterBinder admissionMetrics(AdmissionController controller) {
+        return (MeterRegistry registry) -> {
+            Gauge.builder("r2dbc.admission.limit", controller, AdmissionController::limit)
+                    .description("Límite adaptativo de operaciones concurrentes contra la base de datos")
+                    .register(registry);
+            Gauge.builder("r2dbc.admission.inflight", controller, AdmissionController::inFlight)
+                    .register(registry);
+            Gauge.builder("r2dbc.admission.queued", controller, AdmissionController::queued)
+                    .register(registry);
+            FunctionCounter.builder("r2dbc.admission.rejected", controller, AdmissionController::rejectedQueueFull)
+                    .tag("reason", "queue_full")
+                    .register(registry);
+            FunctionCounter.builder("r2dbc.admission.rejected", controller, AdmissionController::rejectedTimeout)
+                    .tag("reason", "timeout")
+                    .register(registry);
+        };
+    }
+}
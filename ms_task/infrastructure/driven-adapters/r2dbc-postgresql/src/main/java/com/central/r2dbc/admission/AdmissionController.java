@@ -0,0 +1,212 @@
+package com.central.r2dbc.admission;
+
+import com.central.model.exception.OverloadedException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Control de admisión delante del pool de R2DBC.
+ * <p>
+ * El límite de operaciones concurrentes se ajusta con AIMD: crece de forma aditiva (+1 por cada
+ * "ventana" de operaciones rápidas) y se reduce multiplicativamente cuando la latencia observada
+ * supera el objetivo o la operación falla. Lo que no cabe espera en una cola acotada durante un
+ * tiempo máximo; si la cola está llena o el tiempo vence se falla con {@link OverloadedException}
+ * en lugar de dejar que la latencia crezca sin límite.
+ * <p>
+ * Las escrituras masivas entran por {@link #admitBulk}: ocupan un lugar del límite, pero su latencia
+ * no se mide contra el objetivo, pensado para operaciones de una fila.
+ */
+public class AdmissionController {
+    private final AdmissionProperties properties;
+    private final long latencyTargetNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final LongAdder rejectedQueueFull = new LongAdder();
+    private final LongAdder rejectedTimeout = new LongAdder();
+    private volatile double limit;
+
+    public AdmissionController(AdmissionProperties properties) {
+        this.properties = properties;
+        this.latencyTargetNanos = properties.getLatencyTarget().toNanos();
+        this.limit = properties.getInitialLimit();
+    }
+
+    public <T> Mono<T> admit(Mono<T> operation) {
+        if (!properties.isEnabled()) {
+            return operation;
+        }
+        return Mono.usingWhen(acquire(properties.getMaxQueueWait()),
+                permit -> operation,
+                permit -> release(permit, true),
+                (permit, error) -> release(permit, false),
+                permit -> release(permit, true));
+    }
+
+    public <T> Flux<T> admitMany(Flux<T> operation) {
+        if (!properties.isEnabled()) {
+            return operation;
+        }
+        return Flux.usingWhen(acquire(properties.getMaxQueueWait()),
+                permit -> operation,
+                permit -> release(permit, true),
+                (permit, error) -> release(permit, false),
+                permit -> release(permit, true));
+    }
+
+    /**
+     * Admite una operación larga por diseño, como el lote de una importación. No ajusta el límite al
+     * terminar, ni por latencia ni por error, y espera turno hasta {@code bulkMaxQueueWait}: una
+     * importación no achica el límite del tráfico interactivo ni se rechaza a sí misma.
+     */
+    public <T> Mono<T> admitBulk(Mono<T> operation) {
+        if (!properties.isEnabled()) {
+            return operation;
+        }
+        return Mono.usingWhen(acquire(properties.getBulkMaxQueueWait()),
+                permit -> operation,
+                this::releaseUnsampled,
+                (permit, error) -> releaseUnsampled(permit),
+                this::releaseUnsampled);
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public int queued() {
+        return queued.get();
+    }
+
+    public long rejectedQueueFull() {
+        return rejectedQueueFull.sum();
+    }
+
+    public long rejectedTimeout() {
+        return rejectedTimeout.sum();
+    }
+
+    private Mono<Permit> acquire(Duration maxQueueWait) {
+        return Mono.<Permit>create(sink -> {
+                    if (waiters.isEmpty() && tryAcquire()) {
+                        sink.success(new Permit(System.nanoTime()));
+                        return;
+                    }
+                    if (queued.incrementAndGet() > properties.getMaxQueueSize()) {
+                        queued.decrementAndGet();
+                        rejectedQueueFull.increment();
+                        sink.error(overloaded("cola de admisión llena"));
+                        return;
+                    }
+                    Waiter waiter = new Waiter(sink);
+                    waiters.add(waiter);
+                    sink.onCancel(() -> {
+                        if (waiter.cancel()) {
+                            waiters.remove(waiter);
+                            queued.decrementAndGet();
+                        } else {
+                            // El permiso se concedió en paralelo con la cancelación y nadie lo usará
+                            inFlight.decrementAndGet();
+                            drain();
+                        }
+                    });
+                    drain();
+                })
+                .timeout(maxQueueWait, Mono.defer(() -> {
+                    rejectedTimeout.increment();
+                    return Mono.error(overloaded("tiempo de espera de admisión agotado"));
+                }));
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private Mono<Void> release(Permit permit, boolean success) {
+        return Mono.fromRunnable(() -> {
+            adjustLimit(System.nanoTime() - permit.startNanos(), success);
+            inFlight.decrementAndGet();
+            drain();
+        });
+    }
+
+    private Mono<Void> releaseUnsampled(Permit permit) {
+        return Mono.fromRunnable(() -> {
+            inFlight.decrementAndGet();
+            drain();
+        });
+    }
+
+    private synchronized void adjustLimit(long latencyNanos, boolean success) {
+        double current = limit;
+        if (!success || latencyNanos > latencyTargetNanos) {
+            limit = Math.max(properties.getMinLimit(), current * properties.getBackoffRatio());
+        } else if (inFlight.get() >= (int) current) {
+            // Solo crece cuando el límite actual realmente se está usando
+            limit = Math.min(properties.getMaxLimit(), current + 1.0 / current);
+        }
+    }
+
+    private void drain() {
+        Waiter waiter;
+        while ((waiter = waiters.peek()) != null && tryAcquire()) {
+            if (waiters.remove(waiter) && waiter.grant()) {
+                queued.decrementAndGet();
+                waiter.sink().success(new Permit(System.nanoTime()));
+            } else {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private OverloadedException overloaded(String reason) {
+        return new OverloadedException("Base de datos saturada: " + reason, properties.getRetryAfter());
+    }
+
+    private record Permit(long startNanos) {
+    }
+
+    private static final class Waiter {
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final MonoSink<Permit> sink;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+
+        MonoSink<Permit> sink() {
+            return sink;
+        }
+
+        boolean grant() {
+            return state.compareAndSet(WAITING, GRANTED);
+        }
+
+        boolean cancel() {
+            return state.compareAndSet(WAITING, CANCELLED);
+        }
+    }
+}
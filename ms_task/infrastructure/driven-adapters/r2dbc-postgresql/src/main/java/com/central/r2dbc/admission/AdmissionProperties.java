@@ -0,0 +1,27 @@
+package com.central.r2dbc.admission;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "adapters.r2dbc.admission")
+public class AdmissionProperties {
+    private boolean enabled = true;
+    /** Límite de concurrencia inicial; conviene igualarlo al tamaño máximo del pool. */
+    private int initialLimit = 10;
+    private int minLimit = 1;
+    private int maxLimit = 50;
+    /** Latencia por encima de la cual el límite se reduce multiplicativamente. */
+    private Duration latencyTarget = Duration.ofMillis(100);
+    /** Factor de reducción del límite cuando se supera la latencia objetivo o la operación falla. */
+    private double backoffRatio = 0.9;
+    /** Operaciones que pueden esperar turno; más allá se rechaza de inmediato. */
+    private int maxQueueSize = 100;
+    private Duration maxQueueWait = Duration.ofMillis(200);
+    /** Espera máxima de un lote de escritura masiva; el lote ya es lento y esperar es mejor que abortar la importación. */
+    private Duration bulkMaxQueueWait = Duration.ofSeconds(30);
+    /** Valor sugerido al cliente en el encabezado Retry-After. */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,17 @@
+package com.central.r2dbc.bulk;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "adapters.r2dbc.bulk")
+public class BulkWriteProperties {
+    /** Máximo de filas por lote (un solo viaje a la base de datos). */
+    private int maxBatchSize = 500;
+    /** Tiempo máximo que se espera para completar un lote antes de enviarlo incompleto. */
+    private Duration maxBatchWait = Duration.ofMillis(50);
+    /** Lotes que pueden estar escribiéndose en paralelo, cada uno con su propia conexión. */
+    private int concurrency = 2;
+}
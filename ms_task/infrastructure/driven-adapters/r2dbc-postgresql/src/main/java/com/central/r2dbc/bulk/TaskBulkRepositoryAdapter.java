@@ -0,0 +1,79 @@
+package com.central.r2dbc.bulk;
+
+import com.central.model.task.Task;
+import com.central.model.task.gateways.TaskBulkRepository;
+import com.central.r2dbc.admission.AdmissionController;
+import com.central.r2dbc.config.SqlDialect;
+import com.central.r2dbc.outbox.OutboxWriter;
+import com.central.r2dbc.outbox.TaskEventType;
+import com.central.r2dbc.task.TaskStatementBinder;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Escritura masiva con la SPI de R2DBC: cada lote viaja como un único {@link Statement} con
+ * {@link Statement#add()} por fila, dentro de su propia transacción junto con sus eventos de outbox.
+ */
+@Repository
+public class TaskBulkRepositoryAdapter implements TaskBulkRepository {
+    private final ConnectionFactory connectionFactory;
+    private final BulkWriteProperties properties;
+    private final OutboxWriter outboxWriter;
+    private final AdmissionController admissionController;
+    private final SqlDialect dialect;
+
+    public TaskBulkRepositoryAdapter(ConnectionFactory connectionFactory, BulkWriteProperties properties,
+                                     OutboxWriter outboxWriter, AdmissionController admissionController) {
+        this.connectionFactory = connectionFactory;
+        this.properties = properties;
+        this.outboxWriter = outboxWriter;
+        this.admissionController = admissionController;
+        this.dialect = SqlDialect.of(connectionFactory);
+    }
+
+    @Override
+    public Flux<Task> upsertAll(Flux<Task> tasks) {
+        return tasks
+                .bufferTimeout(properties.getMaxBatchSize(), properties.getMaxBatchWait(), true)
+                .flatMap(this::writeBatch, properties.getConcurrency())
+                .flatMapIterable(batch -> batch);
+    }
+
+    /**
+     * @return el mismo lote, emitido después del commit.
+     */
+    private Mono<List<Task>> writeBatch(List<Task> batch) {
+        return admissionController.admitBulk(Mono.usingWhen(
+                connectionFactory.create(),
+                connection -> Mono.from(connection.beginTransaction())
+                        .then(execute(connection, batch))
+                        .then(outboxWriter.appendAll(connection, TaskEventType.TASK_UPSERTED, batch))
+                        .then(Mono.from(connection.commitTransaction()))
+                        .thenReturn(batch),
+                Connection::close,
+                (connection, error) -> Mono.from(connection.rollbackTransaction())
+                        .onErrorResume(rollbackError -> Mono.empty())
+                        .then(Mono.from(connection.close())),
+                Connection::close));
+    }
+
+    private Mono<Void> execute(Connection connection, List<Task> batch) {
+        Statement statement = connection.createStatement(dialect.upsertTaskSql());
+        for (int i = 0; i < batch.size(); i++) {
+            if (i > 0) {
+                statement.add();
+            }
+            TaskStatementBinder.bind(statement, batch.get(i));
+        }
+        return Flux.from(statement.execute())
+                .flatMap(Result::getRowsUpdated)
+                .then();
+    }
+}
@@ -0,0 +1,11 @@
+package com.central.r2dbc.config;
+
+import com.central.r2dbc.bulk.BulkWriteProperties;
+import com.central.r2dbc.routing.TaskRepositoryRoutingProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({BulkWriteProperties.class, TaskRepositoryRoutingProperties.class})
+public class R2dbcAdapterConfig {
+}
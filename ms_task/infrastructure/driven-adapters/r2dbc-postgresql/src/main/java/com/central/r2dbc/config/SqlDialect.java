@@ -0,0 +1,47 @@
+package com.central.r2dbc.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+
+import java.util.Locale;
+
+/**
+ * Diferencias de SQL entre PostgreSQL y H2 (runtime en memoria) que no cubre Spring Data.
+ */
+public enum SqlDialect {
+    POSTGRES("INSERT INTO task (id, title, description, status, due_date, created_at, updated_at, tags) "
+            + "VALUES ($1, $2, $3, $4, $5, $6, $7, $8) "
+            + "ON CONFLICT (id) DO UPDATE SET title = EXCLUDED.title, description = EXCLUDED.description, "
+            + "status = EXCLUDED.status, due_date = EXCLUDED.due_date, updated_at = EXCLUDED.updated_at, "
+            + "tags = EXCLUDED.tags",
+            "INSERT INTO task_deadline_checkpoint (id, fired_until) VALUES ($1, $2) "
+                    + "ON CONFLICT (id) DO UPDATE SET fired_until = EXCLUDED.fired_until"),
+    // MERGE ... KEY reemplaza la fila completa; con USING se deja created_at intacto igual que ON CONFLICT
+    H2("MERGE INTO task t USING (VALUES ($1, $2, $3, $4, $5, $6, $7, $8)) "
+            + "AS s (id, title, description, status, due_date, created_at, updated_at, tags) ON t.id = s.id "
+            + "WHEN MATCHED THEN UPDATE SET title = s.title, description = s.description, status = s.status, "
+            + "due_date = s.due_date, updated_at = s.updated_at, tags = s.tags "
+            + "WHEN NOT MATCHED THEN INSERT (id, title, description, status, due_date, created_at, updated_at, tags) "
+            + "VALUES (s.id, s.title, s.description, s.status, s.due_date, s.created_at, s.updated_at, s.tags)",
+            "MERGE INTO task_deadline_checkpoint (id, fired_until) KEY (id) VALUES ($1, $2)");
+
+    private final String upsertTaskSql;
+    private final String upsertDeadlineCheckpointSql;
+
+    SqlDialect(String upsertTaskSql, String upsertDeadlineCheckpointSql) {
+        this.upsertTaskSql = upsertTaskSql;
+        this.upsertDeadlineCheckpointSql = upsertDeadlineCheckpointSql;
+    }
+
+    public String upsertTaskSql() {
+        return upsertTaskSql;
+    }
+
+    public String upsertDeadlineCheckpointSql() {
+        return upsertDeadlineCheckpointSql;
+    }
+
+    public static SqlDialect of(ConnectionFactory connectionFactory) {
+        String name = connectionFactory.getMetadata().getName().toLowerCase(Locale.ROOT);
+        return name.contains("h2") ? H2 : POSTGRES;
+    }
+}
@@ -0,0 +1,89 @@
+package com.central.r2dbc.deadline;
+
+import com.central.model.task.DeadlineKind;
+import com.central.model.task.TaskDeadline;
+import com.central.model.task.gateways.TaskDeadlinePublisher;
+import com.central.r2dbc.outbox.OutboxProperties;
+import com.central.r2dbc.outbox.TaskEventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Publica los vencimientos en el exchange de eventos de tareas con routing key
+ * {@code task.reminder} o {@code task.overdue}. El lote se envía completo y luego se esperan todos
+ * sus publisher confirms. El messageId combina tarea, tipo y vencimiento para que los consumidores
+ * descarten las repeticiones de la entrega al-menos-una-vez.
+ */
+@Component
+@RequiredArgsConstructor
+public class RabbitTaskDeadlinePublisher implements TaskDeadlinePublisher {
+    private final RabbitTemplate rabbitTemplate;
+    private final OutboxProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> publish(List<TaskDeadline> deadlines) {
+        return Mono.fromCallable(() -> {
+                    List<CorrelationData> confirms = new ArrayList<>(deadlines.size());
+                    for (TaskDeadline deadline : deadlines) {
+                        CorrelationData correlation = new CorrelationData(messageId(deadline));
+                        rabbitTemplate.send(properties.getExchange(), eventType(deadline.kind()).routingKey(),
+                                toAmqp(deadline), correlation);
+                        confirms.add(correlation);
+                    }
+                    return confirms;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(Flux::fromIterable)
+                .flatMap(correlation -> Mono.fromFuture(correlation::getFuture)
+                        .flatMap(confirm -> confirm.isAck()
+                                ? Mono.<Void>empty()
+                                : Mono.error(new AmqpException("Vencimiento " + correlation.getId()
+                                + " rechazado por el broker: " + confirm.getReason()))))
+                .then()
+                .timeout(properties.getConfirmTimeout());
+    }
+
+    private Message toAmqp(TaskDeadline deadline) {
+        return MessageBuilder.withBody(toJson(deadline))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setMessageId(messageId(deadline))
+                .setType(eventType(deadline.kind()).name())
+                .setHeader("aggregateId", deadline.taskId().toString())
+                .build();
+    }
+
+    private byte[] toJson(TaskDeadline deadline) {
+        try {
+            return objectMapper.writeValueAsBytes(deadline);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String messageId(TaskDeadline deadline) {
+        return deadline.taskId() + ":" + deadline.kind() + ":" + deadline.dueDate();
+    }
+
+    private static TaskEventType eventType(DeadlineKind kind) {
+        return switch (kind) {
+            case REMINDER -> TaskEventType.TASK_REMINDER;
+            case OVERDUE -> TaskEventType.TASK_OVERDUE;
+        };
+    }
+}
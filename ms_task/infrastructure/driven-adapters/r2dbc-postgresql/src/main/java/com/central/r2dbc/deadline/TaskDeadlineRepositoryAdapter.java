@@ -0,0 +1,88 @@
+package com.central.r2dbc.deadline;
+
+import com.central.model.task.Task;
+import com.central.model.task.TaskStatus;
+import com.central.model.task.gateways.TaskDeadlineRepository;
+import com.central.r2dbc.config.SqlDialect;
+import com.central.r2dbc.task.TaskRepositoryAdapter;
+import com.central.r2dbc.task.TaskRowMapper;
+import com.central.r2dbc.task.TaskTimestamps;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Statement;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Consultas del planificador de vencimientos. No pasan por el control de admisión: son trabajo de
+ * fondo acotado por la ventana y el tamaño de lote, y descartarlas solo atrasaría los eventos.
+ */
+@Repository
+public class TaskDeadlineRepositoryAdapter implements TaskDeadlineRepository {
+    private static final String CHECKPOINT_ID = "task-deadlines";
+    private static final String OPEN_STATUSES = Arrays.stream(TaskStatus.values())
+            .filter(TaskStatus::isOpen)
+            .map(status -> "'" + status.name() + "'")
+            .collect(Collectors.joining(", "));
+    private static final String SELECT_OPEN_DUE_SQL = "SELECT " + TaskRowMapper.COLUMNS + " FROM task "
+            + "WHERE due_date >= $1 AND due_date < $2 AND status IN (" + OPEN_STATUSES + ")";
+    private static final String SELECT_CHECKPOINT_SQL = "SELECT fired_until FROM task_deadline_checkpoint WHERE id = $1";
+
+    private final DatabaseClient databaseClient;
+    private final SqlDialect dialect;
+
+    public TaskDeadlineRepositoryAdapter(DatabaseClient databaseClient, ConnectionFactory connectionFactory) {
+        this.databaseClient = databaseClient;
+        this.dialect = SqlDialect.of(connectionFactory);
+    }
+
+    @Override
+    public Flux<Task> findOpenDueBetween(long fromInclusive, long toExclusive) {
+        return query(SELECT_OPEN_DUE_SQL, statement -> statement
+                .bind(0, TaskTimestamps.toLocalDateTime(fromInclusive))
+                .bind(1, TaskTimestamps.toLocalDateTime(toExclusive)));
+    }
+
+    @Override
+    public Flux<Task> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        // La misma sentencia que TaskRepositoryAdapter, sin el control de admisión
+        UUID[] values = ids.toArray(UUID[]::new);
+        return query(TaskRepositoryAdapter.SELECT_BY_IDS_SQL, statement -> statement.bind(0, values));
+    }
+
+    @Override
+    public Mono<Long> loadCheckpoint() {
+        return databaseClient.sql(SELECT_CHECKPOINT_SQL)
+                .bind(0, CHECKPOINT_ID)
+                .map(row -> TaskTimestamps.toEpochMillis(row.get("fired_until", LocalDateTime.class)))
+                .one();
+    }
+
+    @Override
+    public Mono<Void> saveCheckpoint(long firedUntil) {
+        return databaseClient.sql(dialect.upsertDeadlineCheckpointSql())
+                .bind(0, CHECKPOINT_ID)
+                .bind(1, TaskTimestamps.toLocalDateTime(firedUntil))
+                .then();
+    }
+
+    private Flux<Task> query(String sql, Consumer<Statement> binder) {
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(sql);
+            binder.accept(statement);
+            return Flux.from(statement.execute())
+                    .flatMap(result -> result.map((row, metadata) -> TaskRowMapper.map(row)));
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package com.central.r2dbc.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executors;
+
+@Configuration
+public class JdbcAdapterConfig {
+    public static final String JDBC_SCHEDULER = "jdbcScheduler";
+
+    /**
+     * Spring Boot no autoconfigura un DataSource cuando hay un ConnectionFactory de R2DBC, así que se
+     * declara aquí; a partir de él Boot arma JdbcClient, el TransactionTemplate y las métricas de Hikari.
+     */
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties(prefix = "adapters.jdbc")
+    public HikariDataSource jdbcDataSource() {
+        return new HikariDataSource();
+    }
+
+    /**
+     * Un hilo virtual por operación: bloquear en JDBC no consume hilos de plataforma, y el límite de
+     * concurrencia lo pone el pool de conexiones, no el scheduler.
+     */
+    @Bean(name = JDBC_SCHEDULER, destroyMethod = "dispose")
+    public Scheduler jdbcScheduler() {
+        return Schedulers.fromExecutorService(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jdbc-vt-", 0).factory()),
+                JDBC_SCHEDULER);
+    }
+}
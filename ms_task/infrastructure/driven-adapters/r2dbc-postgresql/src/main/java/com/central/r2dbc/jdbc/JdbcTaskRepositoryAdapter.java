@@ -0,0 +1,148 @@
+package com.central.r2dbc.jdbc;
+
+import com.central.model.task.Task;
+import com.central.model.task.TaskStatus;
+import com.central.model.task.gateways.TaskRepository;
+import com.central.r2dbc.outbox.JdbcOutboxWriter;
+import com.central.r2dbc.outbox.TaskEventType;
+import com.central.r2dbc.task.TaskRowMapper;
+import com.central.r2dbc.task.TaskTags;
+import com.central.r2dbc.task.TaskTimestamps;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.support.SqlArrayValue;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * Implementación del puerto {@link TaskRepository} sobre JDBC. Cada operación bloquea un hilo
+ * virtual del {@code jdbcScheduler}, no un hilo del event loop, y conserva el contrato
+ * {@code Mono}/{@code Flux} del adaptador R2DBC, incluida la escritura del outbox en la misma
+ * transacción. La concurrencia real la acota el pool de HikariCP.
+ */
+@Repository
+public class JdbcTaskRepositoryAdapter implements TaskRepository {
+    private static final String COLUMNS = TaskRowMapper.COLUMNS;
+    private static final String INSERT_SQL = "INSERT INTO task (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE task SET title = ?, description = ?, status = ?, due_date = ?, "
+            + "created_at = ?, updated_at = ?, tags = ? WHERE id = ?";
+    private static final String SELECT_BY_ID_SQL = "SELECT " + COLUMNS + " FROM task WHERE id = ?";
+    private static final String SELECT_BY_IDS_SQL = "SELECT " + COLUMNS + " FROM task WHERE id = ANY(?)";
+    private static final String DELETE_SQL = "DELETE FROM task WHERE id = ?";
+    private static final String FIRST_PAGE_SQL = "SELECT " + COLUMNS + " FROM task ORDER BY id LIMIT ?";
+    private static final String NEXT_PAGE_SQL = "SELECT " + COLUMNS + " FROM task WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final RowMapper<Task> TASK_ROW_MAPPER = (rs, rowNum) -> new Task(
+            rs.getObject(1, UUID.class),
+            rs.getString(2),
+            rs.getString(3),
+            TaskStatus.valueOf(rs.getString(4)),
+            TaskTimestamps.toEpochMillis(rs.getObject(5, LocalDateTime.class)),
+            TaskTimestamps.toEpochMillis(rs.getObject(6, LocalDateTime.class)),
+            TaskTimestamps.toEpochMillis(rs.getObject(7, LocalDateTime.class)),
+            TaskTags.fromColumn(rs.getString(8)));
+
+    private final JdbcClient jdbcClient;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcOutboxWriter outboxWriter;
+    private final Scheduler scheduler;
+
+    public JdbcTaskRepositoryAdapter(JdbcClient jdbcClient, TransactionTemplate transactionTemplate,
+                                     JdbcOutboxWriter outboxWriter,
+                                     @Qualifier(JdbcAdapterConfig.JDBC_SCHEDULER) Scheduler scheduler) {
+        this.jdbcClient = jdbcClient;
+        this.transactionTemplate = transactionTemplate;
+        this.outboxWriter = outboxWriter;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Mono<Task> create(Task task) {
+        return blocking(() -> transactionTemplate.execute(status -> {
+            jdbcClient.sql(INSERT_SQL)
+                    .params(task.id(), task.title(), task.description(), task.status().name(),
+                            TaskTimestamps.toLocalDateTime(task.dueDate()),
+                            TaskTimestamps.toLocalDateTime(task.createdAt()),
+                            TaskTimestamps.toLocalDateTime(task.updatedAt()), TaskTags.toColumn(task.tags()))
+                    .update();
+            outboxWriter.append(TaskEventType.TASK_CREATED, task);
+            return task;
+        }));
+    }
+
+    @Override
+    public Mono<Task> update(Task task) {
+        return blocking(() -> transactionTemplate.execute(status -> {
+            int updated = jdbcClient.sql(UPDATE_SQL)
+                    .params(task.title(), task.description(), task.status().name(),
+                            TaskTimestamps.toLocalDateTime(task.dueDate()),
+                            TaskTimestamps.toLocalDateTime(task.createdAt()),
+                            TaskTimestamps.toLocalDateTime(task.updatedAt()), TaskTags.toColumn(task.tags()),
+                            task.id())
+                    .update();
+            if (updated == 0) {
+                // Mismo error que Spring Data R2DBC al actualizar una fila inexistente
+                throw new TransientDataAccessResourceException(
+                        "Failed to update table [task]; Row with Id [" + task.id() + "] does not exist");
+            }
+            outboxWriter.append(TaskEventType.TASK_UPDATED, task);
+            return task;
+        }));
+    }
+
+    @Override
+    public Mono<Task> findById(UUID id) {
+        return blocking(() -> jdbcClient.sql(SELECT_BY_ID_SQL)
+                .param(id)
+                .query(TASK_ROW_MAPPER)
+                .optional()
+                .orElse(null));
+    }
+
+    @Override
+    public Flux<Task> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        SqlArrayValue values = new SqlArrayValue("uuid", ids.toArray());
+        return blocking(() -> jdbcClient.sql(SELECT_BY_IDS_SQL).param(values).query(TASK_ROW_MAPPER).list())
+                .flatMapIterable(Function.identity());
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return blocking(() -> transactionTemplate.execute(status -> {
+            jdbcClient.sql(DELETE_SQL).param(id).update();
+            outboxWriter.appendDeleted(id);
+            return null;
+        })).then();
+    }
+
+    /**
+     * La página completa se lee en una sola consulta y se emite después: con el límite acotado por el
+     * llamador no tiene sentido mantener abierto el cursor JDBC mientras se consume el {@code Flux}.
+     */
+    @Override
+    public Flux<Task> findPageAfter(UUID afterId, int limit) {
+        Callable<List<Task>> page = afterId == null
+                ? () -> jdbcClient.sql(FIRST_PAGE_SQL).param(limit).query(TASK_ROW_MAPPER).list()
+                : () -> jdbcClient.sql(NEXT_PAGE_SQL).params(afterId, limit).query(TASK_ROW_MAPPER).list();
+        return blocking(page).flatMapIterable(Function.identity());
+    }
+
+    private <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(scheduler);
+    }
+}
@@ -0,0 +1,39 @@
+package com.central.r2dbc.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.r2dbc.pool.ConnectionPool;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class R2dbcMetricsConfig {
+
+    /**
+     * Spring Boot aplica sus decoradores (incluido el proxy de observaciones) por debajo del pool,
+     * así que el tiempo de adquisición se mide envolviendo el pool ya construido.
+     */
+    @Bean
+    public static BeanPostProcessor connectionAcquireTimingPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ConnectionPool pool) {
+                    return new TimedConnectionFactory(pool, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * La observación r2dbc.query etiqueta el hilo que ejecutó la consulta; en un event loop eso solo
+     * multiplica las series sin aportar información.
+     */
+    @Bean
+    public MeterFilter r2dbcThreadTagFilter() {
+        return MeterFilter.ignoreTags("r2dbc.thread");
+    }
+}
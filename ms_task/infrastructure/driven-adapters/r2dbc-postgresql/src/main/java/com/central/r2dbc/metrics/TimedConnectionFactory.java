@@ -0,0 +1,65 @@
+package com.central.r2dbc.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Closeable;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+/**
+ * Envuelve el pool para medir {@code create()}, es decir, cuánto espera cada operación por una
+ * conexión. Complementa los gauges r2dbc.pool.* que publica Spring Boot, que siguen encontrando el
+ * pool gracias a {@link Wrapped}.
+ */
+public class TimedConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory>, Closeable {
+    static final String METRIC = "r2dbc.pool.acquire";
+
+    private final ConnectionFactory delegate;
+    private final Timer success;
+    private final Timer failure;
+    private final Timer cancelled;
+
+    public TimedConnectionFactory(ConnectionFactory delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.success = timer(registry, "success");
+        this.failure = timer(registry, "error");
+        this.cancelled = timer(registry, "cancelled");
+    }
+
+    @Override
+    public Publisher<? extends Connection> create() {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return Mono.<Connection>from(delegate.create())
+                    .doOnSuccess(connection -> sample.stop(success))
+                    .doOnError(error -> sample.stop(failure))
+                    .doOnCancel(() -> sample.stop(cancelled));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return delegate;
+    }
+
+    @Override
+    public Publisher<Void> close() {
+        return delegate instanceof Closeable closeable ? closeable.close() : Mono.empty();
+    }
+
+    private static Timer timer(MeterRegistry registry, String outcome) {
+        return Timer.builder(METRIC)
+                .description("Tiempo de espera para obtener una conexión del pool")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
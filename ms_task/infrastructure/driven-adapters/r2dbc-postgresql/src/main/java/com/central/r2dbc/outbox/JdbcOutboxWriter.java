@@ -0,0 +1,49 @@
+package com.central.r2dbc.outbox;
+
+import com.central.model.task.Task;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Equivalente bloqueante de {@link OutboxWriter} para el adaptador JDBC. Debe invocarse dentro de
+ * la transacción JDBC que escribe la tarea.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcOutboxWriter {
+    static final String INSERT_SQL =
+            "INSERT INTO task_outbox (aggregate_id, event_type, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcClient jdbcClient;
+    private final ObjectMapper objectMapper;
+
+    public void append(TaskEventType eventType, Task task) {
+        append(eventType, task.id(), task);
+    }
+
+    public void appendDeleted(UUID taskId) {
+        append(TaskEventType.TASK_DELETED, taskId, Map.of("id", taskId));
+    }
+
+    private void append(TaskEventType eventType, UUID aggregateId, Object payload) {
+        jdbcClient.sql(INSERT_SQL)
+                .params(aggregateId, eventType.name(), toJson(payload), LocalDateTime.now())
+                .update();
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
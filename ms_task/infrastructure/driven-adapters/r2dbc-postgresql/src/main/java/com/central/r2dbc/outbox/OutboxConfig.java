@@ -0,0 +1,16 @@
+package com.central.r2dbc.outbox;
+
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    public TopicExchange taskEventsExchange(OutboxProperties properties) {
+        return new TopicExchange(properties.getExchange(), true, false);
+    }
+}
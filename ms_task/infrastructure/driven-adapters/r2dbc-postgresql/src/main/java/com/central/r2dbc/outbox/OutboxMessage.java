@@ -0,0 +1,8 @@
+package com.central.r2dbc.outbox;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OutboxMessage(long id, UUID aggregateId, TaskEventType eventType, String payload,
+                            LocalDateTime createdAt) {
+}
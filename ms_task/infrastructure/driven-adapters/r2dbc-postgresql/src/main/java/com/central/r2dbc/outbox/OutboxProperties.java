@@ -0,0 +1,28 @@
+package com.central.r2dbc.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "adapters.outbox")
+public class OutboxProperties {
+    /** Activa el relay que drena la tabla task_outbox hacia RabbitMQ. */
+    private boolean relayEnabled = false;
+    /** Intervalo entre sondeos cuando la tabla quedó vacía. */
+    private Duration pollInterval = Duration.ofMillis(500);
+    /** Filas leídas por cada drenado. */
+    private int batchSize = 200;
+    /** Mensajes publicados sin confirmar al mismo tiempo (uno por llave de agregado). */
+    private int maxInFlight = 32;
+    /** Tiempo máximo de espera por el publisher confirm de RabbitMQ. */
+    private Duration confirmTimeout = Duration.ofSeconds(5);
+    /** Publicaciones fallidas tras las cuales el mensaje pasa a task_outbox_dead_letter. */
+    private int maxAttempts = 10;
+    /** Espera antes del primer reintento de un mensaje fallido; se duplica en cada intento. */
+    private Duration retryBackoff = Duration.ofSeconds(1);
+    /** Tope de la espera entre reintentos. */
+    private Duration maxRetryBackoff = Duration.ofMinutes(5);
+    private String exchange = "task.events";
+}
@@ -0,0 +1,12 @@
+package com.central.r2dbc.outbox;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Destino del relay. El {@link Mono} solo debe completar cuando el broker confirmó el mensaje;
+ * así el relay puede probarse con cualquier implementación en memoria.
+ */
+public interface OutboxPublisher {
+
+    Mono<Void> publish(OutboxMessage message);
+}
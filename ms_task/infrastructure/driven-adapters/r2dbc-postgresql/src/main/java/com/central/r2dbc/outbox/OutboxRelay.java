@@ -0,0 +1,319 @@
+package com.central.r2dbc.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Drena task_outbox por lotes y publica cada mensaje esperando su confirmación.
+ * <ul>
+ *     <li>Cada lote se reclama con {@code FOR UPDATE SKIP LOCKED} dentro de una transacción que también
+ *     borra lo publicado: con varias instancias cada una toma filas distintas.</li>
+ *     <li>Los mensajes de un mismo agregado se publican en orden, uno a la vez. Si el primer mensaje
+ *     pendiente de un agregado lo tiene otra instancia (o espera un reintento), los que siguen no se
+ *     publican en este lote.</li>
+ *     <li>Como máximo {@code maxInFlight} agregados tienen un mensaje sin confirmar.</li>
+ *     <li>Un mensaje que falla se reintenta con espera exponencial; tras {@code maxAttempts} pasa a
+ *     task_outbox_dead_letter para que los siguientes de su agregado no queden bloqueados.</li>
+ * </ul>
+ * La entrega es al-menos-una-vez: el id del outbox viaja como messageId para deduplicar.
+ * <p>
+ * El bean siempre se registra y {@code relay-enabled} solo decide el arranque automático, así el
+ * interruptor sigue funcionando en tiempo de ejecución cuando el contexto se procesa con AOT.
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements SmartLifecycle {
+    // Sin las filas que esperan reintento ni las que van detrás de una de ellas en su agregado
+    private static final String CLAIM_PENDING = "SELECT o.id, o.aggregate_id, o.event_type, o.payload, o.created_at, "
+            + "o.attempts FROM task_outbox o "
+            + "WHERE (o.next_attempt_at IS NULL OR o.next_attempt_at <= $1) "
+            + "AND NOT EXISTS (SELECT 1 FROM task_outbox p WHERE p.aggregate_id = o.aggregate_id AND p.id < o.id "
+            + "AND p.next_attempt_at > $1) "
+            + "ORDER BY o.id LIMIT $2 FOR UPDATE SKIP LOCKED";
+    private static final String SELECT_FIRST_PENDING = "SELECT aggregate_id, MIN(id) AS first_id FROM task_outbox "
+            + "WHERE aggregate_id = ANY($1) GROUP BY aggregate_id";
+    private static final String DELETE_PUBLISHED = "DELETE FROM task_outbox WHERE id IN (:ids)";
+    private static final String SCHEDULE_RETRY =
+            "UPDATE task_outbox SET attempts = attempts + 1, next_attempt_at = $2 WHERE id = $1";
+    private static final String COPY_TO_DEAD_LETTER = "INSERT INTO task_outbox_dead_letter "
+            + "(id, aggregate_id, event_type, payload, created_at, attempts, last_error, failed_at) "
+            + "SELECT id, aggregate_id, event_type, payload, created_at, attempts + 1, $2, $3 "
+            + "FROM task_outbox WHERE id = $1";
+    private static final String DELETE_ONE = "DELETE FROM task_outbox WHERE id = $1";
+    private static final String SELECT_LAG = "SELECT COUNT(*) AS pending, MIN(created_at) AS oldest FROM task_outbox";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final OutboxPublisher publisher;
+    private final OutboxProperties properties;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicReference<LocalDateTime> oldestPending = new AtomicReference<>();
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetteredCounter;
+    private final Timer publishTimer;
+    private volatile Disposable loop;
+
+    public OutboxRelay(DatabaseClient databaseClient, TransactionalOperator transactionalOperator,
+                       OutboxPublisher publisher, OutboxProperties properties, MeterRegistry meterRegistry) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        this.publisher = publisher;
+        this.properties = properties;
+        this.publishedCounter = meterRegistry.counter("outbox.relay.published");
+        this.failedCounter = meterRegistry.counter("outbox.relay.failed");
+        this.deadLetteredCounter = meterRegistry.counter("outbox.relay.dead_lettered");
+        this.publishTimer = Timer.builder("outbox.relay.publish")
+                .description("Tiempo desde el envío hasta el publisher confirm")
+                .register(meterRegistry);
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+                .description("Mensajes pendientes en task_outbox")
+                .register(meterRegistry);
+        TimeGauge.builder("outbox.lag", this, TimeUnit.MILLISECONDS, OutboxRelay::lagMillis)
+                .description("Antigüedad del mensaje pendiente más viejo")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.isRelayEnabled();
+    }
+
+    @Override
+    public void start() {
+        loop = Flux.interval(properties.getPollInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> drain()
+                        .onErrorResume(e -> {
+                            log.warn("No fue posible drenar el outbox: {}", e.getMessage());
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = loop;
+        if (current != null) {
+            current.dispose();
+        }
+        loop = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return loop != null && !loop.isDisposed();
+    }
+
+    /**
+     * Drena lotes consecutivos mientras salgan llenos y alguno de sus mensajes haya avanzado
+     * (publicado, reprogramado o enviado a dead letter), y actualiza las métricas de rezago.
+     *
+     * @return mensajes publicados y eliminados del outbox.
+     */
+    public Mono<Long> drain() {
+        return drainBatch()
+                .expand(outcome -> outcome.claimed() == properties.getBatchSize()
+                        && outcome.blocked() < outcome.claimed() ? drainBatch() : Mono.empty())
+                .map(BatchOutcome::published)
+                .reduce(0L, Long::sum)
+                .flatMap(total -> refreshLag().thenReturn(total));
+    }
+
+    /**
+     * Reclamo, publicación y limpieza en una sola transacción: los bloqueos de fila duran hasta que
+     * lo publicado se borra.
+     */
+    private Mono<BatchOutcome> drainBatch() {
+        return Mono.defer(() -> claim(LocalDateTime.now())
+                        .flatMap(batch -> batch.isEmpty() ? Mono.just(BatchOutcome.EMPTY) : publishAndSettle(batch)))
+                .as(transactionalOperator::transactional);
+    }
+
+    private Mono<List<ClaimedMessage>> claim(LocalDateTime now) {
+        return databaseClient.sql(CLAIM_PENDING)
+                .bind(0, now)
+                .bind(1, properties.getBatchSize())
+                .map(row -> new ClaimedMessage(
+                        new OutboxMessage(
+                                row.get("id", Long.class),
+                                row.get("aggregate_id", UUID.class),
+                                TaskEventType.valueOf(row.get("event_type", String.class)),
+                                row.get("payload", String.class),
+                                row.get("created_at", LocalDateTime.class)),
+                        row.get("attempts", Integer.class)))
+                .all()
+                .collectList();
+    }
+
+    private Mono<BatchOutcome> publishAndSettle(List<ClaimedMessage> batch) {
+        Map<UUID, List<ClaimedMessage>> byAggregate = batch.stream()
+                .collect(Collectors.groupingBy(ClaimedMessage::aggregateId, LinkedHashMap::new, Collectors.toList()));
+
+        return firstPendingIds(byAggregate.keySet()).flatMap(firstPending -> {
+            List<List<ClaimedMessage>> ready = byAggregate.values().stream()
+                    .filter(messages -> isFirstPending(messages.get(0), firstPending))
+                    .toList();
+            int blocked = batch.size() - ready.stream().mapToInt(List::size).sum();
+            if (blocked > 0) {
+                log.debug("{} mensajes del outbox esperan a uno anterior de su agregado", blocked);
+            }
+            return Flux.fromIterable(ready)
+                    .flatMap(this::publishInOrder, properties.getMaxInFlight())
+                    .collectList()
+                    .flatMap(this::settle)
+                    .map(published -> new BatchOutcome(batch.size(), blocked, published));
+        });
+    }
+
+    /**
+     * Primer id pendiente de cada agregado, esté o no en este lote. Si es menor que el primero que se
+     * reclamó, ese mensaje anterior lo tiene otra instancia y el agregado se salta.
+     */
+    private Mono<Map<UUID, Long>> firstPendingIds(Collection<UUID> aggregateIds) {
+        return databaseClient.sql(SELECT_FIRST_PENDING)
+                .bind(0, aggregateIds.toArray(UUID[]::new))
+                .map(row -> Map.entry(row.get("aggregate_id", UUID.class), row.get("first_id", Long.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private static boolean isFirstPending(ClaimedMessage first, Map<UUID, Long> firstPending) {
+        return firstPending.getOrDefault(first.aggregateId(), first.id()) == first.id();
+    }
+
+    private Mono<AggregateOutcome> publishInOrder(List<ClaimedMessage> messages) {
+        return Mono.defer(() -> {
+            List<Long> published = new ArrayList<>(messages.size());
+            return Flux.fromIterable(messages)
+                    .concatMap(claimed -> publisher.publish(claimed.message())
+                            .as(this::timed)
+                            .thenReturn(claimed.id()))
+                    .doOnNext(id -> {
+                        published.add(id);
+                        publishedCounter.increment();
+                    })
+                    .then(Mono.fromCallable(() -> new AggregateOutcome(published, null, null)))
+                    .onErrorResume(e -> {
+                        failedCounter.increment();
+                        ClaimedMessage failed = messages.get(published.size());
+                        log.warn("Publicación del outbox interrumpida para el agregado {} en el mensaje {}: {}",
+                                failed.aggregateId(), failed.id(), e.getMessage());
+                        return Mono.just(new AggregateOutcome(published, failed, e));
+                    });
+        });
+    }
+
+    private Mono<Long> settle(List<AggregateOutcome> outcomes) {
+        List<Long> publishedIds = outcomes.stream()
+                .flatMap(outcome -> outcome.published().stream())
+                .toList();
+        Mono<Long> deleted = publishedIds.isEmpty()
+                ? Mono.just(0L)
+                : databaseClient.sql(DELETE_PUBLISHED).bind("ids", publishedIds).fetch().rowsUpdated();
+        return deleted.flatMap(rows -> Flux.fromIterable(outcomes)
+                .filter(outcome -> outcome.failed() != null)
+                .concatMap(outcome -> recordFailure(outcome.failed(), outcome.error()))
+                .then(Mono.just(rows)));
+    }
+
+    private Mono<Void> recordFailure(ClaimedMessage failed, Throwable error) {
+        LocalDateTime now = LocalDateTime.now();
+        if (failed.attempts() + 1 >= properties.getMaxAttempts()) {
+            deadLetteredCounter.increment();
+            log.error("Mensaje {} del outbox enviado a task_outbox_dead_letter tras {} intentos",
+                    failed.id(), failed.attempts() + 1);
+            return databaseClient.sql(COPY_TO_DEAD_LETTER)
+                    .bind(0, failed.id())
+                    .bind(1, truncate(String.valueOf(error)))
+                    .bind(2, now)
+                    .then()
+                    .then(databaseClient.sql(DELETE_ONE).bind(0, failed.id()).then());
+        }
+        return databaseClient.sql(SCHEDULE_RETRY)
+                .bind(0, failed.id())
+                .bind(1, now.plus(retryDelay(failed.attempts())))
+                .then();
+    }
+
+    private Duration retryDelay(int previousAttempts) {
+        Duration delay = properties.getRetryBackoff().multipliedBy(1L << Math.min(previousAttempts, 20));
+        return delay.compareTo(properties.getMaxRetryBackoff()) > 0 ? properties.getMaxRetryBackoff() : delay;
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private Mono<Void> timed(Mono<Void> publish) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return publish.doOnSuccess(ignored -> sample.stop(publishTimer));
+        });
+    }
+
+    private Mono<Void> refreshLag() {
+        return databaseClient.sql(SELECT_LAG)
+                .map(row -> {
+                    pending.set(row.get("pending", Long.class));
+                    oldestPending.set(row.get("oldest", LocalDateTime.class));
+                    return Boolean.TRUE;
+                })
+                .one()
+                .then();
+    }
+
+    private double lagMillis() {
+        LocalDateTime oldest = oldestPending.get();
+        return oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis());
+    }
+
+    private record ClaimedMessage(OutboxMessage message, int attempts) {
+        long id() {
+            return message.id();
+        }
+
+        UUID aggregateId() {
+            return message.aggregateId();
+        }
+    }
+
+    /**
+     * Lo publicado de un agregado y, si la cadena se cortó, el mensaje que falló.
+     */
+    private record AggregateOutcome(List<Long> published, ClaimedMessage failed, Throwable error) {
+    }
+
+    /**
+     * @param blocked mensajes reclamados que no se intentaron porque otro anterior de su agregado
+     *                sigue pendiente fuera del lote.
+     */
+    private record BatchOutcome(int claimed, int blocked, long published) {
+        static final BatchOutcome EMPTY = new BatchOutcome(0, 0, 0);
+    }
+}
@@ -0,0 +1,80 @@
+package com.central.r2dbc.outbox;
+
+import com.central.model.task.Task;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Registra los eventos de tareas en task_outbox. Debe invocarse dentro de la misma transacción que
+ * la escritura de la tarea para que ambos cambios se confirmen o se descarten juntos.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+    static final String INSERT_SQL =
+            "INSERT INTO task_outbox (aggregate_id, event_type, payload, created_at) VALUES ($1, $2, $3, $4)";
+
+    private final DatabaseClient databaseClient;
+    private final ObjectMapper objectMapper;
+
+    public Mono<Void> append(TaskEventType eventType, Task task) {
+        return append(eventType, task.id(), task);
+    }
+
+    public Mono<Void> appendDeleted(UUID taskId) {
+        return append(TaskEventType.TASK_DELETED, taskId, Map.of("id", taskId));
+    }
+
+    /**
+     * Variante para la escritura masiva, que ya tiene abierta su propia conexión y transacción.
+     */
+    public Mono<Long> appendAll(Connection connection, TaskEventType eventType, List<Task> tasks) {
+        LocalDateTime now = LocalDateTime.now();
+        Statement statement = connection.createStatement(INSERT_SQL);
+        for (int i = 0; i < tasks.size(); i++) {
+            if (i > 0) {
+                statement.add();
+            }
+            Task task = tasks.get(i);
+            statement.bind(0, task.id())
+                    .bind(1, eventType.name())
+                    .bind(2, toJson(task))
+                    .bind(3, now);
+        }
+        return Flux.from(statement.execute())
+                .flatMap(Result::getRowsUpdated)
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Void> append(TaskEventType eventType, UUID aggregateId, Object payload) {
+        return Mono.fromCallable(() -> toJson(payload))
+                .flatMap(json -> databaseClient.sql(INSERT_SQL)
+                        .bind(0, aggregateId)
+                        .bind(1, eventType.name())
+                        .bind(2, json)
+                        .bind(3, LocalDateTime.now())
+                        .then());
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
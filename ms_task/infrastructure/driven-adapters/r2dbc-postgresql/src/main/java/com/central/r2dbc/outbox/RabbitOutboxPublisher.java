@@ -0,0 +1,50 @@
+package com.central.r2dbc.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Publica en RabbitMQ y espera el publisher confirm correlacionado con el id del outbox.
+ * Requiere {@code spring.rabbitmq.publisher-confirm-type=correlated}.
+ */
+@Component
+@RequiredArgsConstructor
+public class RabbitOutboxPublisher implements OutboxPublisher {
+    private final RabbitTemplate rabbitTemplate;
+    private final OutboxProperties properties;
+
+    @Override
+    public Mono<Void> publish(OutboxMessage outboxMessage) {
+        return Mono.defer(() -> {
+            CorrelationData correlation = new CorrelationData(String.valueOf(outboxMessage.id()));
+            return Mono.fromRunnable(() -> rabbitTemplate.send(properties.getExchange(),
+                            outboxMessage.eventType().routingKey(), toAmqp(outboxMessage), correlation))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .then(Mono.fromFuture(correlation::getFuture))
+                    .timeout(properties.getConfirmTimeout())
+                    .flatMap(confirm -> confirm.isAck()
+                            ? Mono.<Void>empty()
+                            : Mono.error(new AmqpException("Mensaje " + outboxMessage.id()
+                            + " rechazado por el broker: " + confirm.getReason())));
+        });
+    }
+
+    private static Message toAmqp(OutboxMessage outboxMessage) {
+        return MessageBuilder.withBody(outboxMessage.payload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setMessageId(String.valueOf(outboxMessage.id()))
+                .setType(outboxMessage.eventType().name())
+                .setHeader("aggregateId", outboxMessage.aggregateId().toString())
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.central.r2dbc.outbox;
+
+import java.util.Locale;
+
+public enum TaskEventType {
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_UPSERTED,
+    TASK_DELETED,
+    /** Los publica el planificador de vencimientos, no el outbox. */
+    TASK_REMINDER,
+    TASK_OVERDUE;
+
+    /** task.created, task.updated, ... */
+    public String routingKey() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '.');
+    }
+}
@@ -0,0 +1,11 @@
+package com.central.r2dbc.routing;
+
+/**
+ * Implementación del puerto de tareas que atiende una operación.
+ */
+public enum RepositoryMode {
+    /** Reactivo de punta a punta sobre el pool R2DBC, con control de admisión. */
+    R2DBC,
+    /** JDBC bloqueante sobre hilos virtuales y HikariCP; conviene en lecturas pesadas. */
+    JDBC
+}
@@ -0,0 +1,64 @@
+package com.central.r2dbc.routing;
+
+import com.central.model.task.Task;
+import com.central.model.task.gateways.TaskRepository;
+import com.central.r2dbc.jdbc.JdbcTaskRepositoryAdapter;
+import com.central.r2dbc.task.TaskRepositoryAdapter;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * {@link TaskRepository} que atienden los casos de uso: delega cada operación en el adaptador R2DBC
+ * o en el JDBC según {@code adapters.task-repository}. La elección se resuelve una vez al arrancar.
+ * Quien necesite una implementación concreta puede inyectar el adaptador directamente.
+ */
+@Primary
+@Repository
+public class RoutingTaskRepository implements TaskRepository {
+    private final Map<TaskRepositoryOperation, TaskRepository> routes = new EnumMap<>(TaskRepositoryOperation.class);
+
+    public RoutingTaskRepository(TaskRepositoryAdapter r2dbcRepository, JdbcTaskRepositoryAdapter jdbcRepository,
+                                 TaskRepositoryRoutingProperties properties) {
+        for (TaskRepositoryOperation operation : TaskRepositoryOperation.values()) {
+            TaskRepository target = properties.modeFor(operation) == RepositoryMode.JDBC ? jdbcRepository : r2dbcRepository;
+            routes.put(operation, target);
+        }
+    }
+
+    @Override
+    public Mono<Task> create(Task task) {
+        return routes.get(TaskRepositoryOperation.CREATE).create(task);
+    }
+
+    @Override
+    public Mono<Task> update(Task task) {
+        return routes.get(TaskRepositoryOperation.UPDATE).update(task);
+    }
+
+    @Override
+    public Mono<Task> findById(UUID id) {
+        return routes.get(TaskRepositoryOperation.FIND_BY_ID).findById(id);
+    }
+
+    @Override
+    public Flux<Task> findAllById(Collection<UUID> ids) {
+        return routes.get(TaskRepositoryOperation.FIND_ALL_BY_ID).findAllById(ids);
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return routes.get(TaskRepositoryOperation.DELETE_BY_ID).deleteById(id);
+    }
+
+    @Override
+    public Flux<Task> findPageAfter(UUID afterId, int limit) {
+        return routes.get(TaskRepositoryOperation.FIND_PAGE_AFTER).findPageAfter(afterId, limit);
+    }
+}
@@ -0,0 +1,13 @@
+package com.central.r2dbc.routing;
+
+/**
+ * Operaciones del puerto {@code TaskRepository} que pueden enrutarse por separado.
+ */
+public enum TaskRepositoryOperation {
+    CREATE,
+    UPDATE,
+    FIND_BY_ID,
+    FIND_ALL_BY_ID,
+    DELETE_BY_ID,
+    FIND_PAGE_AFTER
+}
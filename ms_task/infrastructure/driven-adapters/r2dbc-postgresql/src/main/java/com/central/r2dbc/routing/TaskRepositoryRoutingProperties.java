@@ -0,0 +1,20 @@
+package com.central.r2dbc.routing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "adapters.task-repository")
+public class TaskRepositoryRoutingProperties {
+    /** Implementación de las operaciones que no aparecen en {@code operations}. */
+    private RepositoryMode defaultMode = RepositoryMode.R2DBC;
+    /** Excepciones por operación, por ejemplo {@code find-page-after: jdbc}. */
+    private Map<TaskRepositoryOperation, RepositoryMode> operations = new EnumMap<>(TaskRepositoryOperation.class);
+
+    public RepositoryMode modeFor(TaskRepositoryOperation operation) {
+        return operations.getOrDefault(operation, defaultMode);
+    }
+}
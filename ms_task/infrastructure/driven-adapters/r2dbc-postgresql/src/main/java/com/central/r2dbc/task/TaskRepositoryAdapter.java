@@ -0,0 +1,114 @@
+package com.central.r2dbc.task;
+
+import com.central.model.task.Task;
+import com.central.model.task.gateways.TaskRepository;
+import com.central.r2dbc.admission.AdmissionController;
+import com.central.r2dbc.outbox.OutboxWriter;
+import com.central.r2dbc.outbox.TaskEventType;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Adaptador R2DBC del puerto de tareas. Las sentencias se arman sobre la SPI y se leen y enlazan con
+ * {@link TaskRowMapper} y {@link TaskStatementBinder}; {@link DatabaseClient} solo aporta la
+ * conexión, que participa de la transacción del {@link TransactionalOperator}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskRepositoryAdapter implements TaskRepository {
+    private static final String INSERT_SQL = "INSERT INTO task (" + TaskRowMapper.COLUMNS + ") "
+            + "VALUES ($1, $2, $3, $4, $5, $6, $7, $8)";
+    private static final String UPDATE_SQL = "UPDATE task SET title = $2, description = $3, status = $4, "
+            + "due_date = $5, created_at = $6, updated_at = $7, tags = $8 WHERE id = $1";
+    private static final String SELECT_BY_ID_SQL = "SELECT " + TaskRowMapper.COLUMNS + " FROM task WHERE id = $1";
+    // Un solo parámetro de tipo arreglo: la misma sentencia (y su plan) sirve para cualquier cantidad de ids
+    public static final String SELECT_BY_IDS_SQL = "SELECT " + TaskRowMapper.COLUMNS + " FROM task WHERE id = ANY($1)";
+    private static final String DELETE_SQL = "DELETE FROM task WHERE id = $1";
+    private static final String FIRST_PAGE_SQL = "SELECT " + TaskRowMapper.COLUMNS + " FROM task ORDER BY id LIMIT $1";
+    private static final String NEXT_PAGE_SQL = "SELECT " + TaskRowMapper.COLUMNS + " FROM task "
+            + "WHERE id > $1 ORDER BY id LIMIT $2";
+
+    private final DatabaseClient databaseClient;
+    private final OutboxWriter outboxWriter;
+    private final TransactionalOperator transactionalOperator;
+    private final AdmissionController admissionController;
+
+    @Override
+    public Mono<Task> create(Task task) {
+        return save(INSERT_SQL, task, TaskEventType.TASK_CREATED);
+    }
+
+    @Override
+    public Mono<Task> update(Task task) {
+        return save(UPDATE_SQL, task, TaskEventType.TASK_UPDATED);
+    }
+
+    @Override
+    public Mono<Task> findById(UUID id) {
+        return admissionController.admit(query(SELECT_BY_ID_SQL, statement -> statement.bind(0, id)).next());
+    }
+
+    @Override
+    public Flux<Task> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        UUID[] values = ids.toArray(UUID[]::new);
+        return admissionController.admitMany(query(SELECT_BY_IDS_SQL, statement -> statement.bind(0, values)));
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return admissionController.admit(execute(DELETE_SQL, statement -> statement.bind(0, id))
+                .then(outboxWriter.appendDeleted(id))
+                .as(transactionalOperator::transactional));
+    }
+
+    @Override
+    public Flux<Task> findPageAfter(UUID afterId, int limit) {
+        Flux<Task> page = afterId == null
+                ? query(FIRST_PAGE_SQL, statement -> statement.bind(0, limit))
+                : query(NEXT_PAGE_SQL, statement -> statement.bind(0, afterId).bind(1, limit));
+        return admissionController.admitMany(page);
+    }
+
+    private Mono<Task> save(String sql, Task task, TaskEventType eventType) {
+        return admissionController.admit(execute(sql, statement -> TaskStatementBinder.bind(statement, task))
+                .flatMap(rows -> rows > 0
+                        ? outboxWriter.append(eventType, task).thenReturn(task)
+                        // Mismo error que reportaba Spring Data al actualizar una fila inexistente
+                        : Mono.error(new TransientDataAccessResourceException(
+                                "Failed to update table [task]; Row with Id [" + task.id() + "] does not exist")))
+                .as(transactionalOperator::transactional));
+    }
+
+    private Mono<Long> execute(String sql, Consumer<Statement> binder) {
+        return databaseClient.inConnection(connection -> {
+            Statement statement = connection.createStatement(sql);
+            binder.accept(statement);
+            return Flux.from(statement.execute())
+                    .flatMap(Result::getRowsUpdated)
+                    .reduce(0L, Long::sum);
+        });
+    }
+
+    private Flux<Task> query(String sql, Consumer<Statement> binder) {
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(sql);
+            binder.accept(statement);
+            return Flux.from(statement.execute())
+                    .flatMap(result -> result.map((row, metadata) -> TaskRowMapper.map(row)));
+        });
+    }
+}
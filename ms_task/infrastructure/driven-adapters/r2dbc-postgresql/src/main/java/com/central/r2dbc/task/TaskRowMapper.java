@@ -0,0 +1,31 @@
+package com.central.r2dbc.task;
+
+import com.central.model.task.Task;
+import com.central.model.task.TaskStatus;
+import io.r2dbc.spi.Row;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lectura de filas de {@code task} sin el convertidor de Spring Data: accede por posición, sin
+ * reflexión ni entidad intermedia. Las consultas deben proyectar {@link #COLUMNS} en ese orden.
+ */
+public final class TaskRowMapper {
+    public static final String COLUMNS = "id, title, description, status, due_date, created_at, updated_at, tags";
+
+    private TaskRowMapper() {
+    }
+
+    public static Task map(Row row) {
+        return new Task(
+                row.get(0, UUID.class),
+                row.get(1, String.class),
+                row.get(2, String.class),
+                TaskStatus.valueOf(row.get(3, String.class)),
+                TaskTimestamps.toEpochMillis(row.get(4, LocalDateTime.class)),
+                TaskTimestamps.toEpochMillis(row.get(5, LocalDateTime.class)),
+                TaskTimestamps.toEpochMillis(row.get(6, LocalDateTime.class)),
+                TaskTags.fromColumn(row.get(7, String.class)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.central.r2dbc.task;
+
+import com.central.model.task.Task;
+import io.r2dbc.spi.Statement;
+
+import java.time.LocalDateTime;
+
+/**
+ * Enlaza una tarea directamente en un {@link Statement}, en el orden de {@link TaskRowMapper#COLUMNS}
+ * ({@code $1..$8}), sin pasar por el {@code OutboundRow} que arma Spring Data por cada escritura.
+ */
+public final class TaskStatementBinder {
+
+    private TaskStatementBinder() {
+    }
+
+    public static Statement bind(Statement statement, Task task) {
+        statement.bind(0, task.id())
+                .bind(1, task.title())
+                .bind(3, task.status().name())
+                .bind(5, TaskTimestamps.toLocalDateTime(task.createdAt()))
+                .bind(6, TaskTimestamps.toLocalDateTime(task.updatedAt()));
+        if (task.description() != null) {
+            statement.bind(2, task.description());
+        } else {
+            statement.bindNull(2, String.class);
+        }
+        if (task.hasDueDate()) {
+            statement.bind(4, TaskTimestamps.toLocalDateTime(task.dueDate()));
+        } else {
+            statement.bindNull(4, LocalDateTime.class);
+        }
+        String tags = TaskTags.toColumn(task.tags());
+        if (tags != null) {
+            statement.bind(7, tags);
+        } else {
+            statement.bindNull(7, String.class);
+        }
+        return statement;
+    }
+}
@@ -0,0 +1,22 @@
+package com.central.r2dbc.task;
+
+import java.util.List;
+
+/**
+ * Conversión entre la columna {@code tags} (etiquetas separadas por coma) y la lista del dominio.
+ * {@code NULL} corresponde a la lista vacía; el caso de uso garantiza que ninguna etiqueta tiene comas.
+ */
+public final class TaskTags {
+    private static final String SEPARATOR = ",";
+
+    private TaskTags() {
+    }
+
+    public static String toColumn(List<String> tags) {
+        return tags.isEmpty() ? null : String.join(SEPARATOR, tags);
+    }
+
+    public static List<String> fromColumn(String column) {
+        return column == null || column.isEmpty() ? List.of() : List.of(column.split(SEPARATOR));
+    }
+}
@@ -0,0 +1,30 @@
+package com.central.r2dbc.task;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Conversión entre las columnas TIMESTAMP (UTC, sin zona) y los milisegundos epoch del dominio.
+ * {@code NULL} corresponde a {@code 0}, el "sin valor" de {@link com.central.model.task.Task}.
+ */
+public final class TaskTimestamps {
+
+    private TaskTimestamps() {
+    }
+
+    public static long toEpochMillis(LocalDateTime timestamp) {
+        if (timestamp == null) {
+            return 0L;
+        }
+        // Sin Instant intermedio: segundos epoch más la fracción de la marca
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000L + timestamp.getNano() / 1_000_000;
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochMillis) {
+        if (epochMillis == 0L) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1_000L),
+                (int) Math.floorMod(epochMillis, 1_000L) * 1_000_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,52 @@
+CREATE TABLE IF NOT EXISTS task (
+    id          UUID          PRIMARY KEY,
+    title       VARCHAR(255)  NOT NULL,
+    description VARCHAR(2000),
+    status      VARCHAR(20)   NOT NULL,
+    due_date    TIMESTAMP,
+    created_at  TIMESTAMP     NOT NULL,
+    updated_at  TIMESTAMP     NOT NULL,
+    tags        VARCHAR(1100)
+);
+
+-- Bases creadas antes de las etiquetas
+ALTER TABLE task ADD COLUMN IF NOT EXISTS tags VARCHAR(1100);
+
+-- Outbox transaccional: se escribe en la misma transacción que la tarea y el relay lo drena hacia RabbitMQ.
+-- El payload es la tarea completa en JSON (descripción y etiquetas escapadas), sin tope de tamaño.
+CREATE TABLE IF NOT EXISTS task_outbox (
+    id              BIGINT        GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_id    UUID          NOT NULL,
+    event_type      VARCHAR(50)   NOT NULL,
+    payload         TEXT          NOT NULL,
+    created_at      TIMESTAMP     NOT NULL,
+    -- Publicaciones fallidas y cuándo puede reintentarse (NULL: ya)
+    attempts        INT           DEFAULT 0 NOT NULL,
+    next_attempt_at TIMESTAMP
+);
+
+-- Bases creadas antes de los reintentos del relay
+ALTER TABLE task_outbox ALTER COLUMN payload SET DATA TYPE TEXT;
+ALTER TABLE task_outbox ADD COLUMN IF NOT EXISTS attempts INT DEFAULT 0 NOT NULL;
+ALTER TABLE task_outbox ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP;
+
+-- Mensajes que agotaron los reintentos; el relay los saca del outbox para no bloquear a los siguientes
+CREATE TABLE IF NOT EXISTS task_outbox_dead_letter (
+    id           BIGINT        PRIMARY KEY,
+    aggregate_id UUID          NOT NULL,
+    event_type   VARCHAR(50)   NOT NULL,
+    payload      TEXT          NOT NULL,
+    created_at   TIMESTAMP     NOT NULL,
+    attempts     INT           NOT NULL,
+    last_error   VARCHAR(1000),
+    failed_at    TIMESTAMP     NOT NULL
+);
+
+-- Rango de vencimientos que carga el planificador
+CREATE INDEX IF NOT EXISTS idx_task_due_date ON task (due_date);
+
+-- Hasta dónde el planificador de vencimientos publicó todo; tras un reinicio se recarga desde ahí
+CREATE TABLE IF NOT EXISTS task_deadline_checkpoint (
+    id          VARCHAR(50)   PRIMARY KEY,
+    fired_until TIMESTAMP     NOT NULL
+);
@@ -0,0 +1,64 @@
+package com.central.r2dbc.admission;
+
+import com.central.model.exception.OverloadedException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControllerTest {
+    private static final Duration SLOW = Duration.ofMillis(60);
+
+    @Test
+    void slowOperationsShrinkTheLimit() {
+        AdmissionController controller = new AdmissionController(properties(10));
+
+        Flux.range(0, 5).concatMap(i -> controller.admit(Mono.delay(SLOW))).blockLast();
+
+        assertThat(controller.limit()).isLessThan(10);
+    }
+
+    @Test
+    void slowBulkOperationsKeepTheLimit() {
+        AdmissionController controller = new AdmissionController(properties(10));
+
+        Flux.range(0, 5).concatMap(i -> controller.admitBulk(Mono.delay(SLOW))).blockLast();
+        controller.admitBulk(Mono.error(new IllegalStateException("lote fallido")))
+                .onErrorResume(error -> Mono.empty())
+                .block();
+
+        assertThat(controller.limit()).isEqualTo(10);
+        assertThat(controller.inFlight()).isZero();
+    }
+
+    @Test
+    void bulkWaitsPastTheInteractiveQueueWait() {
+        AdmissionController controller = new AdmissionController(properties(1));
+        Mono<Long> holder = controller.admitBulk(Mono.delay(SLOW.multipliedBy(2)));
+
+        // Con el único lugar ocupado, la lectura interactiva vence su espera y el lote la supera
+        StepVerifier.create(Mono.zip(holder,
+                        controller.admit(Mono.just(1L)).onErrorResume(OverloadedException.class, error -> Mono.just(-1L)),
+                        controller.admitBulk(Mono.just(2L))))
+                .assertNext(results -> {
+                    assertThat(results.getT2()).isEqualTo(-1L);
+                    assertThat(results.getT3()).isEqualTo(2L);
+                })
+                .verifyComplete();
+        assertThat(controller.rejectedTimeout()).isEqualTo(1);
+    }
+
+    private static AdmissionProperties properties(int limit) {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setInitialLimit(limit);
+        properties.setMaxLimit(limit);
+        properties.setLatencyTarget(SLOW.dividedBy(2));
+        properties.setMaxQueueWait(SLOW.dividedBy(2));
+        properties.setBulkMaxQueueWait(Duration.ofSeconds(5));
+        return properties;
+    }
+}
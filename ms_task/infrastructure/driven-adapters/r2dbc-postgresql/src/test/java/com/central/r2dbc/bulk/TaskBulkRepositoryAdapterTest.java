@@ -0,0 +1,184 @@
+package com.central.r2dbc.bulk;
+
+import com.central.model.task.Task;
+import com.central.model.task.TaskStatus;
+import com.central.r2dbc.admission.AdmissionController;
+import com.central.r2dbc.admission.AdmissionProperties;
+import com.central.r2dbc.outbox.OutboxWriter;
+import com.central.r2dbc.task.TaskRowMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskBulkRepositoryAdapterTest {
+    private static final long CREATED_AT = 1_700_000_000_000L;
+
+    private ConnectionFactory pool;
+    private CountingConnectionFactory connectionFactory;
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        pool = ConnectionFactories.get("r2dbc:pool:h2:mem:///bulk-" + UUID.randomUUID()
+                + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        new ResourceDatabasePopulator(new ClassPathResource("db/schema.sql")).populate(pool).block();
+        connectionFactory = new CountingConnectionFactory(pool);
+        databaseClient = DatabaseClient.create(pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((ConnectionPool) pool).dispose();
+    }
+
+    @Test
+    void splitsTasksIntoBatchesOfMaxBatchSize() {
+        TaskBulkRepositoryAdapter adapter = adapter(3);
+
+        StepVerifier.create(adapter.upsertAll(Flux.fromIterable(tasks(7))).count())
+                .expectNext(7L)
+                .verifyComplete();
+
+        // Un lote por conexión: 3 + 3 + 1
+        assertThat(connectionFactory.created.get()).isEqualTo(3);
+        assertThat(count("task")).isEqualTo(7);
+        assertThat(count("task_outbox")).isEqualTo(7);
+    }
+
+    @Test
+    void upsertUpdatesExistingRowsAndKeepsCreatedAt() {
+        TaskBulkRepositoryAdapter adapter = adapter(10);
+        Task original = task(UUID.randomUUID(), "original", null);
+        adapter.upsertAll(Flux.just(original)).blockLast();
+
+        Task changed = original.toBuilder()
+                .title("cambiada")
+                .status(TaskStatus.COMPLETED)
+                .createdAt(CREATED_AT + 60_000)
+                .updatedAt(CREATED_AT + 60_000)
+                .tags(List.of("urgente"))
+                .build();
+        StepVerifier.create(adapter.upsertAll(Flux.just(changed)))
+                .expectNext(changed)
+                .verifyComplete();
+
+        Task stored = findById(original.id());
+        assertThat(stored.title()).isEqualTo("cambiada");
+        assertThat(stored.status()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(stored.tags()).containsExactly("urgente");
+        assertThat(stored.updatedAt()).isEqualTo(CREATED_AT + 60_000);
+        assertThat(stored.createdAt()).isEqualTo(CREATED_AT);
+        assertThat(count("task")).isEqualTo(1);
+    }
+
+    @Test
+    void failedBatchRollsBackItsTasksAndOutboxEvents() {
+        TaskBulkRepositoryAdapter adapter = adapter(2);
+        List<Task> valid = tasks(3);
+        // La descripción no cabe en la columna: falla el segundo lote completo
+        Task invalid = task(UUID.randomUUID(), "inválida", "x".repeat(2_001));
+
+        // Solo se emiten las tareas del lote que confirmó
+        StepVerifier.create(adapter.upsertAll(Flux.just(valid.get(0), valid.get(1), valid.get(2), invalid)))
+                .expectNext(valid.get(0), valid.get(1))
+                .verifyError();
+
+        assertThat(count("task")).isEqualTo(2);
+        assertThat(count("task_outbox")).isEqualTo(2);
+        assertThat(exists(valid.get(0).id())).isTrue();
+        assertThat(exists(valid.get(1).id())).isTrue();
+        assertThat(exists(valid.get(2).id())).isFalse();
+    }
+
+    private TaskBulkRepositoryAdapter adapter(int maxBatchSize) {
+        BulkWriteProperties properties = new BulkWriteProperties();
+        properties.setMaxBatchSize(maxBatchSize);
+        // Un lote a la vez: el orden de escritura de los lotes es determinista
+        properties.setConcurrency(1);
+        return new TaskBulkRepositoryAdapter(connectionFactory, properties,
+                new OutboxWriter(databaseClient, new ObjectMapper()),
+                new AdmissionController(new AdmissionProperties()));
+    }
+
+    private static List<Task> tasks(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> task(UUID.randomUUID(), "tarea " + i, "descripción " + i))
+                .toList();
+    }
+
+    private static Task task(UUID id, String title, String description) {
+        return Task.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .status(TaskStatus.PENDING)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .build();
+    }
+
+    private long count(String table) {
+        return databaseClient.sql("SELECT COUNT(*) AS total FROM " + table)
+                .map(row -> row.get("total", Long.class))
+                .one()
+                .block();
+    }
+
+    private boolean exists(UUID id) {
+        return Boolean.TRUE.equals(databaseClient.sql("SELECT id FROM task WHERE id = $1")
+                .bind(0, id)
+                .map(row -> Boolean.TRUE)
+                .one()
+                .defaultIfEmpty(Boolean.FALSE)
+                .block());
+    }
+
+    private Task findById(UUID id) {
+        return databaseClient.sql("SELECT " + TaskRowMapper.COLUMNS + " FROM task WHERE id = $1")
+                .bind(0, id)
+                .map((row, metadata) -> TaskRowMapper.map(row))
+                .one()
+                .block();
+    }
+
+    /**
+     * Cuenta las conexiones que pide el adaptador: cada lote abre la suya.
+     */
+    private record CountingConnectionFactory(ConnectionFactory delegate, AtomicInteger created)
+            implements ConnectionFactory {
+
+        CountingConnectionFactory(ConnectionFactory delegate) {
+            this(delegate, new AtomicInteger());
+        }
+
+        @Override
+        public Publisher<? extends Connection> create() {
+            created.incrementAndGet();
+            return delegate.create();
+        }
+
+        @Override
+        public ConnectionFactoryMetadata getMetadata() {
+            return delegate.getMetadata();
+        }
+    }
+}
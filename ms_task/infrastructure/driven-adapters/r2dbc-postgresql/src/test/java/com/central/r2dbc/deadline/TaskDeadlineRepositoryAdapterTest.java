@@ -0,0 +1,84 @@
+package com.central.r2dbc.deadline;
+
+import com.central.model.task.Task;
+import com.central.model.task.TaskStatus;
+import com.central.r2dbc.admission.AdmissionController;
+import com.central.r2dbc.admission.AdmissionProperties;
+import com.central.r2dbc.bulk.BulkWriteProperties;
+import com.central.r2dbc.bulk.TaskBulkRepositoryAdapter;
+import com.central.r2dbc.outbox.OutboxWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskDeadlineRepositoryAdapterTest {
+    private static final long DUE_DATE = 1_700_000_000_000L;
+
+    private ConnectionFactory pool;
+    private TaskDeadlineRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        pool = ConnectionFactories.get("r2dbc:pool:h2:mem:///deadline-" + UUID.randomUUID()
+                + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        new ResourceDatabasePopulator(new ClassPathResource("db/schema.sql")).populate(pool).block();
+        adapter = new TaskDeadlineRepositoryAdapter(DatabaseClient.create(pool), pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((ConnectionPool) pool).dispose();
+    }
+
+    @Test
+    void findsOnlyTheRequestedIds() {
+        List<Task> tasks = insert(5);
+        List<UUID> requested = List.of(tasks.get(0).id(), tasks.get(3).id(), UUID.randomUUID());
+
+        List<Task> found = adapter.findAllById(requested).collectList().block();
+
+        assertThat(found).extracting(Task::id)
+                .containsExactlyInAnyOrder(tasks.get(0).id(), tasks.get(3).id());
+        assertThat(found).allSatisfy(task -> assertThat(task.dueDate()).isEqualTo(DUE_DATE));
+    }
+
+    @Test
+    void emptyIdsDoNotQuery() {
+        StepVerifier.create(adapter.findAllById(List.of()))
+                .verifyComplete();
+    }
+
+    private List<Task> insert(int count) {
+        List<Task> tasks = IntStream.range(0, count)
+                .mapToObj(i -> Task.builder()
+                        .id(UUID.randomUUID())
+                        .title("tarea " + i)
+                        .status(TaskStatus.PENDING)
+                        .dueDate(DUE_DATE)
+                        .createdAt(DUE_DATE)
+                        .updatedAt(DUE_DATE)
+                        .build())
+                .toList();
+        DatabaseClient databaseClient = DatabaseClient.create(pool);
+        new TaskBulkRepositoryAdapter(pool, new BulkWriteProperties(), new OutboxWriter(databaseClient, new ObjectMapper()),
+                new AdmissionController(new AdmissionProperties()))
+                .upsertAll(Flux.fromIterable(tasks))
+                .blockLast();
+        return tasks;
+    }
+}
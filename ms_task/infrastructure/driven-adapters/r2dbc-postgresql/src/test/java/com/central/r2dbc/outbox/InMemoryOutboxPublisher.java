@@ -0,0 +1,57 @@
+package com.central.r2dbc.outbox;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Broker en memoria para probar el relay. Confirma cada mensaje tras una espera aleatoria de hasta
+ * {@code maxConfirmDelay}, para que las publicaciones de distintos agregados se intercalen, y
+ * rechaza los ids marcados con {@link #reject(long)} como lo haría un nack.
+ */
+class InMemoryOutboxPublisher implements OutboxPublisher {
+    private final Duration maxConfirmDelay;
+    private final List<OutboxMessage> confirmed = new CopyOnWriteArrayList<>();
+    private final Set<Long> rejected = ConcurrentHashMap.newKeySet();
+
+    InMemoryOutboxPublisher(Duration maxConfirmDelay) {
+        this.maxConfirmDelay = maxConfirmDelay;
+    }
+
+    @Override
+    public Mono<Void> publish(OutboxMessage message) {
+        return Mono.defer(() -> {
+            long delayNanos = maxConfirmDelay.isZero()
+                    ? 0
+                    : ThreadLocalRandom.current().nextLong(maxConfirmDelay.toNanos());
+            return Mono.delay(Duration.ofNanos(delayNanos))
+                    .then(Mono.defer(() -> {
+                        if (rejected.contains(message.id())) {
+                            return Mono.error(new IllegalStateException("nack del mensaje " + message.id()));
+                        }
+                        confirmed.add(message);
+                        return Mono.<Void>empty();
+                    }));
+        });
+    }
+
+    void reject(long id) {
+        rejected.add(id);
+    }
+
+    void accept(long id) {
+        rejected.remove(id);
+    }
+
+    /**
+     * Mensajes confirmados, en el orden en que el broker los confirmó.
+     */
+    List<OutboxMessage> confirmed() {
+        return List.copyOf(confirmed);
+    }
+}
@@ -0,0 +1,239 @@
+package com.central.r2dbc.outbox;
+
+import com.central.model.task.Task;
+import com.central.model.task.TaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxRelayTest {
+    private ConnectionFactory pool;
+    private DatabaseClient databaseClient;
+    private TransactionalOperator transactionalOperator;
+    private OutboxWriter outboxWriter;
+    private OutboxProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        pool = ConnectionFactories.get("r2dbc:pool:h2:mem:///outbox-" + UUID.randomUUID()
+                + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        new ResourceDatabasePopulator(new ClassPathResource("db/schema.sql")).populate(pool).block();
+        databaseClient = DatabaseClient.create(pool);
+        transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(pool));
+        outboxWriter = new OutboxWriter(databaseClient, new ObjectMapper());
+        properties = new OutboxProperties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((ConnectionPool) pool).dispose();
+    }
+
+    @Test
+    void publishesWaitsForConfirmAndDeletes() {
+        InMemoryOutboxPublisher publisher = new InMemoryOutboxPublisher(Duration.ofMillis(5));
+        List<Long> ids = append(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        StepVerifier.create(relay(publisher).drain())
+                .expectNext(3L)
+                .verifyComplete();
+
+        assertThat(publisher.confirmed()).extracting(OutboxMessage::id).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(pendingIds()).isEmpty();
+    }
+
+    @Test
+    void relaysPayloadsLargerThanTheOldColumn() {
+        InMemoryOutboxPublisher publisher = new InMemoryOutboxPublisher(Duration.ZERO);
+        // Descripción al máximo llena de comillas (se duplica al escaparla) y 20 etiquetas de 50 caracteres
+        Task task = task(UUID.randomUUID()).toBuilder()
+                .description("\"".repeat(2_000))
+                .tags(IntStream.range(0, 20).mapToObj(i -> String.valueOf((char) ('a' + i)).repeat(50)).toList())
+                .build();
+        outboxWriter.append(TaskEventType.TASK_CREATED, task).block();
+
+        StepVerifier.create(relay(publisher).drain())
+                .expectNext(1L)
+                .verifyComplete();
+
+        assertThat(publisher.confirmed().get(0).payload()).hasSizeGreaterThan(5_000).contains(task.tags().get(19));
+    }
+
+    @Test
+    void nackLeavesTheRowAndHoldsTheRestOfItsAggregate() {
+        InMemoryOutboxPublisher publisher = new InMemoryOutboxPublisher(Duration.ZERO);
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        List<Long> ids = append(a, b, a, b, a);
+        long rejected = ids.get(2);
+        publisher.reject(rejected);
+        OutboxRelay relay = relay(publisher);
+
+        StepVerifier.create(relay.drain())
+                .expectNext(3L)
+                .verifyComplete();
+
+        assertThat(publisher.confirmed()).extracting(OutboxMessage::id)
+                .containsExactlyInAnyOrder(ids.get(0), ids.get(1), ids.get(3));
+        assertThat(pendingIds()).containsExactly(rejected, ids.get(4));
+        assertThat(attempts(rejected)).isEqualTo(1);
+
+        // Mientras el mensaje rechazado espera su reintento, nada de su agregado se publica
+        StepVerifier.create(relay.drain())
+                .expectNext(0L)
+                .verifyComplete();
+
+        publisher.accept(rejected);
+        databaseClient.sql("UPDATE task_outbox SET next_attempt_at = NULL").then().block();
+        StepVerifier.create(relay.drain())
+                .expectNext(2L)
+                .verifyComplete();
+
+        assertThat(confirmedIds(publisher, a)).containsExactly(ids.get(0), rejected, ids.get(4));
+        assertThat(pendingIds()).isEmpty();
+    }
+
+    @Test
+    void publishesEachAggregateInOrder() {
+        properties.setBatchSize(50);
+        properties.setMaxInFlight(8);
+        InMemoryOutboxPublisher publisher = new InMemoryOutboxPublisher(Duration.ofMillis(2));
+        List<UUID> aggregates = aggregates(10);
+        List<UUID> order = IntStream.range(0, 300).mapToObj(i -> aggregates.get(i % aggregates.size())).toList();
+        List<Long> ids = append(order.toArray(UUID[]::new));
+
+        StepVerifier.create(relay(publisher).drain())
+                .expectNext(300L)
+                .verifyComplete();
+
+        assertThat(pendingIds()).isEmpty();
+        for (UUID aggregate : aggregates) {
+            List<Long> expected = IntStream.range(0, ids.size())
+                    .filter(i -> order.get(i).equals(aggregate))
+                    .mapToObj(ids::get)
+                    .toList();
+            assertThat(confirmedIds(publisher, aggregate)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void deadLettersMessagesThatKeepFailing() {
+        properties.setMaxAttempts(2);
+        properties.setRetryBackoff(Duration.ZERO);
+        InMemoryOutboxPublisher publisher = new InMemoryOutboxPublisher(Duration.ZERO);
+        UUID aggregate = UUID.randomUUID();
+        List<Long> ids = append(aggregate, aggregate);
+        publisher.reject(ids.get(0));
+        OutboxRelay relay = relay(publisher);
+
+        relay.drain().block();
+        assertThat(attempts(ids.get(0))).isEqualTo(1);
+        relay.drain().block();
+        relay.drain().block();
+
+        assertThat(pendingIds()).isEmpty();
+        assertThat(confirmedIds(publisher, aggregate)).containsExactly(ids.get(1));
+        Map<String, Object> deadLetter = databaseClient.sql("SELECT id, attempts, last_error FROM task_outbox_dead_letter")
+                .fetch()
+                .one()
+                .block();
+        assertThat(deadLetter).containsEntry("ID", ids.get(0)).containsEntry("ATTEMPTS", 2);
+        assertThat((String) deadLetter.get("LAST_ERROR")).contains("nack del mensaje " + ids.get(0));
+    }
+
+    @Test
+    void concurrentRelaysPublishEachMessageOnceAndInOrder() {
+        properties.setBatchSize(20);
+        InMemoryOutboxPublisher publisher = new InMemoryOutboxPublisher(Duration.ofMillis(2));
+        List<UUID> aggregates = aggregates(20);
+        List<UUID> order = IntStream.range(0, 200).mapToObj(i -> aggregates.get(i % aggregates.size())).toList();
+        List<Long> ids = append(order.toArray(UUID[]::new));
+        OutboxRelay first = relay(publisher);
+        OutboxRelay second = relay(publisher);
+
+        for (int round = 0; round < 50 && !pendingIds().isEmpty(); round++) {
+            Mono.zip(first.drain().subscribeOn(Schedulers.parallel()),
+                    second.drain().subscribeOn(Schedulers.parallel())).block();
+        }
+
+        assertThat(pendingIds()).isEmpty();
+        assertThat(publisher.confirmed()).extracting(OutboxMessage::id).doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(ids);
+        for (UUID aggregate : aggregates) {
+            assertThat(confirmedIds(publisher, aggregate)).isSorted();
+        }
+    }
+
+    private OutboxRelay relay(OutboxPublisher publisher) {
+        return new OutboxRelay(databaseClient, transactionalOperator, publisher, properties, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Un mensaje por agregado de la lista, en ese orden.
+     *
+     * @return ids de outbox asignados, en el mismo orden.
+     */
+    private List<Long> append(UUID... aggregateIds) {
+        Flux.fromArray(aggregateIds)
+                .concatMap(id -> outboxWriter.append(TaskEventType.TASK_UPDATED, task(id)))
+                .blockLast();
+        return pendingIds();
+    }
+
+    private List<Long> pendingIds() {
+        return databaseClient.sql("SELECT id FROM task_outbox ORDER BY id")
+                .map(row -> row.get("id", Long.class))
+                .all()
+                .collectList()
+                .block();
+    }
+
+    private int attempts(long id) {
+        return databaseClient.sql("SELECT attempts FROM task_outbox WHERE id = $1")
+                .bind(0, id)
+                .map(row -> row.get("attempts", Integer.class))
+                .one()
+                .block();
+    }
+
+    private static List<Long> confirmedIds(InMemoryOutboxPublisher publisher, UUID aggregate) {
+        return publisher.confirmed().stream()
+                .filter(message -> message.aggregateId().equals(aggregate))
+                .map(OutboxMessage::id)
+                .toList();
+    }
+
+    private static List<UUID> aggregates(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+    }
+
+    private static Task task(UUID id) {
+        return Task.builder()
+                .id(id)
+                .title("tarea " + id)
+                .status(TaskStatus.PENDING)
+                .build();
+    }
+}
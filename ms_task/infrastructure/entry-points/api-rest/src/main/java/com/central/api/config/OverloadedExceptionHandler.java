@@ -0,0 +1,40 @@
+package com.central.api.config;
+
+import com.central.model.exception.OverloadedException;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Traduce el rechazo del control de admisión a 503 con Retry-After para que los clientes se
+ * retiren en lugar de reintentar de inmediato. Corre antes del manejador de errores de Spring Boot.
+ */
+@Component
+@Order(-2)
+public class OverloadedExceptionHandler implements WebExceptionHandler {
+    private static final byte[] BODY = "{\"code\":\"TSK-503\",\"message\":\"Servicio saturado, intente más tarde\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (!(ex instanceof OverloadedException overloaded) || response.isCommitted()) {
+            return Mono.error(ex);
+        }
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, overloaded.getRetryAfter().toSeconds())));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBuffer body = response.bufferFactory().wrap(BODY);
+        return response.writeWith(Mono.just(body));
+    }
+}
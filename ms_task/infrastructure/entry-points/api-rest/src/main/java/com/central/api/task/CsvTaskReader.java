@@ -0,0 +1,105 @@
+package com.central.api.task;
+
+import com.central.api.task.dto.TaskRequest;
+import com.central.model.task.TaskStatus;
+import com.central.usecase.task.ImportLine;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Lector de CSV para la importación, una línea a la vez. La primera línea es el encabezado; se
+ * reconocen {@code title} (obligatoria), {@code description}, {@code status}, {@code dueDate}
+ * (ISO local, UTC) y {@code tags} (separadas por {@code |}) en cualquier orden, y se ignoran las
+ * demás columnas. Admite comillas dobles al
+ * estilo RFC 4180 dentro de la línea, pero no campos que abarquen varias líneas.
+ */
+final class CsvTaskReader {
+    private static final Pattern TAG_SEPARATOR = Pattern.compile("\\|");
+
+    private final int title;
+    private final int description;
+    private final int status;
+    private final int dueDate;
+    private final int tags;
+
+    private CsvTaskReader(List<String> header) {
+        this.title = header.indexOf("title");
+        this.description = header.indexOf("description");
+        this.status = header.indexOf("status");
+        this.dueDate = Math.max(header.indexOf("duedate"), header.indexOf("due_date"));
+        this.tags = header.indexOf("tags");
+    }
+
+    static CsvTaskReader fromHeader(String headerLine) {
+        List<String> header = split(headerLine).stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        if (!header.contains("title")) {
+            throw new ImportFormatException("El encabezado CSV debe incluir la columna title");
+        }
+        return new CsvTaskReader(header);
+    }
+
+    ImportLine read(long number, String line) {
+        List<String> fields = split(line);
+        TaskStatus parsedStatus;
+        LocalDateTime parsedDueDate;
+        try {
+            String statusValue = field(fields, status);
+            parsedStatus = statusValue == null ? null : TaskStatus.valueOf(statusValue.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ImportLine.unreadable(number, "Estado desconocido: " + field(fields, status));
+        }
+        try {
+            String dueDateValue = field(fields, dueDate);
+            parsedDueDate = dueDateValue == null ? null : LocalDateTime.parse(dueDateValue);
+        } catch (DateTimeParseException e) {
+            return ImportLine.unreadable(number, "Fecha inválida: " + field(fields, dueDate));
+        }
+        String tagsValue = field(fields, tags);
+        TaskRequest request = new TaskRequest(field(fields, title), field(fields, description), parsedStatus,
+                parsedDueDate, tagsValue == null ? null : List.of(TAG_SEPARATOR.split(tagsValue)));
+        return ImportLine.parsed(number, request.toDomain());
+    }
+
+    private static String field(List<String> fields, int index) {
+        if (index < 0 || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,42 @@
+package com.central.api.task;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Codifica la posición del keyset como un token opaco (base64url del id) para que los clientes
+ * no dependan del formato interno del cursor.
+ */
+final class CursorCodec {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    static String encode(UUID id) {
+        ByteBuffer buffer = ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    /**
+     * @throws IllegalArgumentException si el token no es un cursor emitido por {@link #encode}.
+     */
+    static UUID decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(DECODER.decode(token));
+            if (buffer.remaining() != 16) {
+                throw new IllegalArgumentException("Longitud de cursor inválida");
+            }
+            return new UUID(buffer.getLong(), buffer.getLong());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.central.api.task;
+
+/**
+ * El archivo de importación no se puede procesar como un todo (por ejemplo, falta el encabezado);
+ * los errores de una sola línea se reportan en el resultado y no usan esta excepción.
+ */
+class ImportFormatException extends RuntimeException {
+
+    ImportFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,101 @@
+package com.central.api.task;
+
+import com.central.api.task.dto.TaskRequest;
+import com.central.api.task.dto.TaskResponse;
+import com.central.api.task.dto.TaskStreamItem;
+import com.central.model.exception.BusinessErrorMessage;
+import com.central.model.exception.BusinessException;
+import com.central.usecase.task.TaskUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class TaskHandler {
+    static final int DEFAULT_PAGE_SIZE = 500;
+    static final int MAX_PAGE_SIZE = 5_000;
+
+    private final TaskUseCase taskUseCase;
+
+    public Mono<ServerResponse> create(ServerRequest request) {
+        return request.bodyToMono(TaskRequest.class)
+                .map(TaskRequest::toDomain)
+                .flatMap(taskUseCase::create)
+                .flatMap(task -> ServerResponse.status(HttpStatus.CREATED).bodyValue(TaskResponse.from(task)))
+                .onErrorResume(BusinessException.class, TaskHandler::businessError);
+    }
+
+    public Mono<ServerResponse> findById(ServerRequest request) {
+        UUID id;
+        try {
+            id = UUID.fromString(request.pathVariable("id"));
+        } catch (IllegalArgumentException e) {
+            return badRequest("id debe ser un UUID: " + request.pathVariable("id"));
+        }
+        return taskUseCase.findById(id)
+                .flatMap(task -> ServerResponse.ok().bodyValue(TaskResponse.from(task)))
+                .onErrorResume(BusinessException.class, TaskHandler::businessError);
+    }
+
+    /**
+     * Export NDJSON por keyset. La demanda de Netty se propaga hasta el caso de uso, que solo pide
+     * la siguiente página cuando la anterior ya se escribió en el socket.
+     */
+    public Mono<ServerResponse> stream(ServerRequest request) {
+        UUID afterId;
+        int pageSize;
+        try {
+            afterId = CursorCodec.decode(request.queryParam("cursor").orElse(null));
+            pageSize = pageSize(request);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e.getMessage());
+        }
+
+        Flux<TaskStreamItem> items = taskUseCase.streamAfter(afterId, pageSize)
+                .map(task -> new TaskStreamItem(CursorCodec.encode(task.id()), TaskResponse.from(task)));
+
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(items, TaskStreamItem.class);
+    }
+
+    private static int pageSize(ServerRequest request) {
+        String value = request.queryParam("pageSize").orElse(null);
+        if (value == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        int pageSize;
+        try {
+            pageSize = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("pageSize debe ser un número");
+        }
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("pageSize debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        return pageSize;
+    }
+
+    /**
+     * Mismo cuerpo que los errores de parámetros de {@link TaskSearchHandler}.
+     */
+    private static Mono<ServerResponse> badRequest(String message) {
+        return ServerResponse.badRequest().bodyValue(Map.of("code", "TSK-400", "message", message));
+    }
+
+    private static Mono<ServerResponse> businessError(BusinessException e) {
+        BusinessErrorMessage error = e.getErrorMessage();
+        HttpStatus status = error == BusinessErrorMessage.TASK_NOT_FOUND ? HttpStatus.NOT_FOUND : HttpStatus.BAD_REQUEST;
+        return ServerResponse.status(status)
+                .bodyValue(Map.of("code", error.getCode(), "message", error.getMessage()));
+    }
+}
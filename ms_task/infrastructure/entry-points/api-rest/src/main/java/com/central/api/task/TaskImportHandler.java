@@ -0,0 +1,138 @@
+package com.central.api.task;
+
+import com.central.api.task.dto.TaskRequest;
+import com.central.model.exception.BusinessException;
+import com.central.model.exception.OverloadedException;
+import com.central.usecase.task.BulkTaskUseCase;
+import com.central.usecase.task.ImportAbortedException;
+import com.central.usecase.task.ImportLine;
+import com.central.usecase.task.ImportReport;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Importación masiva desde CSV ({@code text/csv}) o NDJSON ({@code application/x-ndjson}). El cuerpo
+ * se parte en líneas a medida que llegan los {@code DataBuffer}s y la demanda del repositorio, que
+ * escribe por lotes, regula cuánto se lee del socket: la memoria depende del tamaño de lote y de
+ * línea, no del tamaño del archivo.
+ */
+@Component
+public class TaskImportHandler {
+    static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    static final int MAX_LINE_BYTES = 64 * 1024;
+    private static final ResolvableType STRING = ResolvableType.forClass(String.class);
+
+    private final BulkTaskUseCase bulkTaskUseCase;
+    private final ObjectMapper objectMapper;
+    private final StringDecoder lineDecoder;
+
+    public TaskImportHandler(BulkTaskUseCase bulkTaskUseCase, ObjectMapper objectMapper) {
+        this.bulkTaskUseCase = bulkTaskUseCase;
+        this.objectMapper = objectMapper;
+        this.lineDecoder = StringDecoder.textPlainOnly(List.of("\n"), true);
+        this.lineDecoder.setMaxInMemorySize(MAX_LINE_BYTES);
+    }
+
+    public Mono<ServerResponse> importTasks(ServerRequest request) {
+        MediaType contentType = request.headers().contentType().orElse(MediaType.APPLICATION_NDJSON);
+        boolean csv = TEXT_CSV.isCompatibleWith(contentType);
+        if (!csv && !MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return ServerResponse.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+                    .bodyValue(error("TSK-415", "Use text/csv o application/x-ndjson"));
+        }
+
+        Flux<NumberedLine> lines = lineDecoder
+                .decode(request.body(BodyExtractors.toDataBuffers()), STRING, contentType, Map.of())
+                .index((index, line) -> new NumberedLine(index + 1, stripCarriageReturn(line)))
+                .filter(line -> !line.text().isBlank());
+        Flux<ImportLine> records = csv ? readCsv(lines) : lines.map(line -> readJson(line.number(), line.text()));
+
+        return bulkTaskUseCase.importLines(records)
+                .flatMap(report -> ServerResponse.ok().bodyValue(report))
+                .onErrorResume(ImportAbortedException.class, this::aborted);
+    }
+
+    /**
+     * Responde con el reporte parcial: los lotes que ya confirmaron quedan escritos y el cliente
+     * necesita saber cuáles líneas reintentar.
+     */
+    private Mono<ServerResponse> aborted(ImportAbortedException e) {
+        ImportReport report = e.getReport();
+        return switch (e.getCause()) {
+            case ImportFormatException cause -> ServerResponse.badRequest()
+                    .bodyValue(error("TSK-400", cause.getMessage(), report));
+            case DataBufferLimitException ignored -> ServerResponse.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                    .bodyValue(error("TSK-413", "Línea de más de " + MAX_LINE_BYTES + " bytes", report));
+            case OverloadedException cause -> ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, cause.getRetryAfter().toSeconds())))
+                    .bodyValue(error("TSK-503", "Servicio saturado, intente más tarde", report));
+            default -> ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .bodyValue(error("TSK-500", "Importación interrumpida", report));
+        };
+    }
+
+    private Flux<ImportLine> readCsv(Flux<NumberedLine> lines) {
+        return lines.switchOnFirst((first, all) -> {
+            if (!first.hasValue()) {
+                // Cuerpo vacío o error de lectura: solo se propaga la terminación
+                return all.thenMany(Flux.empty());
+            }
+            CsvTaskReader reader;
+            try {
+                reader = CsvTaskReader.fromHeader(first.get().text());
+            } catch (ImportFormatException e) {
+                return Flux.error(e);
+            }
+            return all.skip(1).map(line -> reader.read(line.number(), line.text()));
+        });
+    }
+
+    /**
+     * Cualquier fallo al leer o convertir la línea queda como error de esa línea: una excepción que
+     * escapara de aquí cortaría la importación completa con lo anterior ya escrito y sin reporte.
+     */
+    private ImportLine readJson(long number, String line) {
+        try {
+            TaskRequest request = objectMapper.readValue(line, TaskRequest.class);
+            return request == null
+                    ? ImportLine.unreadable(number, "Se esperaba un objeto JSON")
+                    : ImportLine.parsed(number, request.toDomain());
+        } catch (JsonProcessingException e) {
+            return ImportLine.unreadable(number, "JSON inválido: " + e.getOriginalMessage());
+        } catch (BusinessException e) {
+            return ImportLine.unreadable(number, e.getErrorMessage().getCode() + " " + e.getMessage());
+        } catch (RuntimeException e) {
+            return ImportLine.unreadable(number, "Tarea inválida: " + e);
+        }
+    }
+
+    private static String stripCarriageReturn(String line) {
+        return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+    }
+
+    private static Map<String, String> error(String code, String message) {
+        return Map.of("code", code, "message", message);
+    }
+
+    private static Map<String, Object> error(String code, String message, ImportReport report) {
+        return Map.of("code", code, "message", message, "report", report);
+    }
+
+    private record NumberedLine(long number, String text) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.central.api.task;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+@Configuration
+public class TaskRouterRest {
+
+    @Bean
+    public RouterFunction<ServerResponse> taskRoutes(TaskHandler handler, TaskImportHandler importHandler,
+                                                     TaskSearchHandler searchHandler) {
+        return route()
+                .path("/api/tasks", builder -> builder
+                        .GET("", handler::stream)
+                        .GET("/search", searchHandler::search)
+                        .GET("/{id}", handler::findById)
+                        .POST("", handler::create)
+                        .POST("/import", importHandler::importTasks))
+                .build();
+    }
+}
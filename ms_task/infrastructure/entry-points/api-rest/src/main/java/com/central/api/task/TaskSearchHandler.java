@@ -0,0 +1,73 @@
+package com.central.api.task;
+
+import com.central.api.task.dto.TaskSearchResponse;
+import com.central.model.task.TaskStatus;
+import com.central.usecase.task.search.TaskQuery;
+import com.central.usecase.task.search.TaskSearchUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@code GET /api/tasks/search?q=&op=and|or&tag=&tagOp=and|or&status=&limit=}. {@code tag} y
+ * {@code status} se pueden repetir o separar por comas; los resultados salen ordenados por
+ * vencimiento.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskSearchHandler {
+    static final int DEFAULT_LIMIT = 20;
+
+    private final TaskSearchUseCase taskSearchUseCase;
+
+    public Mono<ServerResponse> search(ServerRequest request) {
+        return Mono.fromCallable(() -> toQuery(request))
+                .flatMap(taskSearchUseCase::search)
+                .flatMap(result -> ServerResponse.ok().bodyValue(TaskSearchResponse.from(result)))
+                .onErrorResume(IllegalArgumentException.class, e -> ServerResponse.badRequest()
+                        .bodyValue(Map.of("code", "TSK-400", "message", e.getMessage())));
+    }
+
+    private static TaskQuery toQuery(ServerRequest request) {
+        Set<TaskStatus> statuses = values(request, "status").stream()
+                .map(status -> parse(TaskStatus.class, status, "status"))
+                .collect(Collectors.toSet());
+        int limit;
+        try {
+            limit = request.queryParam("limit").map(Integer::parseInt).orElse(DEFAULT_LIMIT);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("limit debe ser un número");
+        }
+        return new TaskQuery(
+                request.queryParam("q").orElse(null),
+                request.queryParam("op").map(op -> parse(TaskQuery.Operator.class, op, "op")).orElse(null),
+                values(request, "tag"),
+                request.queryParam("tagOp").map(op -> parse(TaskQuery.Operator.class, op, "tagOp")).orElse(null),
+                statuses,
+                limit);
+    }
+
+    private static List<String> values(ServerRequest request, String name) {
+        return request.queryParams().getOrDefault(name, List.of()).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .filter(value -> !value.isBlank())
+                .toList();
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value, String name) {
+        try {
+            return Enum.valueOf(type, value.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Valor inválido para " + name + ": " + value);
+        }
+    }
+}
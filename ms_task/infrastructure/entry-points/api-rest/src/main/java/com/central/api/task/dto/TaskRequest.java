@@ -0,0 +1,26 @@
+package com.central.api.task.dto;
+
+import com.central.model.task.Task;
+import com.central.model.task.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+public record TaskRequest(String title, String description, TaskStatus status, LocalDateTime dueDate,
+                          List<String> tags) {
+
+    /**
+     * Descarta los elementos {@code null} de {@code tags}, igual que el dominio descarta las etiquetas
+     * en blanco: {@link Task} no admite nulos en la lista.
+     */
+    public Task toDomain() {
+        return Task.builder()
+                .title(title)
+                .description(description)
+                .status(status)
+                .dueDate(Timestamps.toEpochMillis(dueDate))
+                .tags(tags == null ? null : tags.stream().filter(Objects::nonNull).toList())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.central.api.task.dto;
+
+import com.central.model.task.Task;
+import com.central.model.task.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record TaskResponse(UUID id, String title, String description, TaskStatus status,
+                           LocalDateTime dueDate, LocalDateTime createdAt, LocalDateTime updatedAt,
+                           List<String> tags) {
+
+    public static TaskResponse from(Task task) {
+        return new TaskResponse(task.id(), task.title(), task.description(), task.status(),
+                Timestamps.toLocalDateTime(task.dueDate()), Timestamps.toLocalDateTime(task.createdAt()),
+                Timestamps.toLocalDateTime(task.updatedAt()), task.tags());
+    }
+}
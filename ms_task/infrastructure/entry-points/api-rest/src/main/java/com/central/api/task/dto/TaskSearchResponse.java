@@ -0,0 +1,12 @@
+package com.central.api.task.dto;
+
+import com.central.usecase.task.search.TaskSearchResult;
+
+import java.util.List;
+
+public record TaskSearchResponse(long total, List<TaskResponse> tasks) {
+
+    public static TaskSearchResponse from(TaskSearchResult result) {
+        return new TaskSearchResponse(result.total(), result.tasks().stream().map(TaskResponse::from).toList());
+    }
+}
@@ -0,0 +1,8 @@
+package com.central.api.task.dto;
+
+/**
+ * Línea del export NDJSON. {@code cursor} es el token opaco para reanudar la lectura justo
+ * después de esta tarea: basta con reenviar el último cursor recibido.
+ */
+public record TaskStreamItem(String cursor, TaskResponse task) {
+}
@@ -0,0 +1,22 @@
+package com.central.api.task.dto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * El API sigue exponiendo fechas ISO locales (UTC); el dominio las guarda como milisegundos epoch.
+ */
+final class Timestamps {
+
+    private Timestamps() {
+    }
+
+    static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0L : dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    static LocalDateTime toLocalDateTime(long epochMillis) {
+        return epochMillis == 0L ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+}
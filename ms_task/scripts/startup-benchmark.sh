@@ -0,0 +1,83 @@
+#!/usr/bin/env bash
+#
+# Compara el arranque de app-service en modo actual (fat jar) contra el modo de arranque rápido
+# (Spring AOT + archivo CDS entrenado). Para cada modo arranca la app RUNS veces y mide:
+#   - ready_ms: desde el lanzamiento del proceso hasta que /actuator/health/readiness responde UP
+#   - started_s: el "Started MsTaskApplication in X seconds" que reporta Spring
+#   - first_ms: latencia de la primera petición de negocio (POST /api/tasks + GET /api/tasks/{id})
+#
+# Uso (desde ms_task/):  scripts/startup-benchmark.sh [runs=5]
+# Variables: JAVA_HOME, PORT (8080), SKIP_BUILD=1 para reutilizar el jar ya construido con -Pfast-start.
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-8080}"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="$ROOT/applications/app-service/target/app-service-0.0.1-SNAPSHOT.jar"
+WORK="$ROOT/applications/app-service/target/fast-start"
+BASE_URL="http://localhost:$PORT"
+
+now_ms() { date +%s%3N; }
+
+if [[ "${SKIP_BUILD:-0}" != "1" ]]; then
+  echo "==> Construyendo con el perfil fast-start (AOT)"
+  (cd "$ROOT" && sh mvnw -B -q install -DskipTests -Pfast-start)
+fi
+
+# El archivo CDS exige un classpath estable de jars sin anidar: se extrae el fat jar
+echo "==> Extrayendo el jar y entrenando el archivo CDS"
+rm -rf "$WORK"
+"$JAVA" -Djarmode=tools -jar "$JAR" extract --destination "$WORK" > /dev/null
+APP_JAR="$WORK/$(basename "$JAR")"
+# Corrida de entrenamiento: refresca el contexto (carga las clases del arranque) y sale
+"$JAVA" -XX:ArchiveClassesAtExit="$WORK/app.jsa" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+  -jar "$APP_JAR" > "$WORK/training.log" 2>&1
+
+declare -A MODES=(
+  [1-actual]="-jar $JAR"
+  [2-aot]="-Dspring.aot.enabled=true -jar $APP_JAR"
+  [3-cds]="-XX:SharedArchiveFile=$WORK/app.jsa -jar $APP_JAR"
+  [4-aot+cds]="-XX:SharedArchiveFile=$WORK/app.jsa -Dspring.aot.enabled=true -jar $APP_JAR"
+)
+
+run_once() {
+  local args="$1" log="$WORK/run.log" start ready first pid body id
+  start=$(now_ms)
+  # shellcheck disable=SC2086
+  "$JAVA" $args --server.port="$PORT" > "$log" 2>&1 &
+  pid=$!
+  until curl -fs "$BASE_URL/actuator/health/readiness" 2> /dev/null | grep -q '"UP"'; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "La aplicación terminó durante el arranque, ver $log" >&2
+      exit 1
+    fi
+    sleep 0.01
+  done
+  ready=$(( $(now_ms) - start ))
+
+  first=$(now_ms)
+  body=$(curl -fs -H 'Content-Type: application/json' -d '{"title":"arranque"}' "$BASE_URL/api/tasks")
+  id=$(sed -E 's/.*"id":"([^"]+)".*/\1/' <<< "$body")
+  curl -fs "$BASE_URL/api/tasks/$id" > /dev/null
+  first=$(( $(now_ms) - first ))
+
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+  echo "$ready $(grep -oE 'Started MsTaskApplication in [0-9.]+' "$log" | awk '{print $NF}') $first"
+}
+
+median() { sort -n | awk '{v[NR]=$1} END {print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2}'; }
+
+printf '\n%-10s %12s %12s %12s\n' "modo" "ready_ms" "started_s" "first_ms"
+for mode in $(printf '%s\n' "${!MODES[@]}" | sort); do
+  results=()
+  for _ in $(seq "$RUNS"); do
+    results+=("$(run_once "${MODES[$mode]}")")
+  done
+  printf '%-10s %12s %12s %12s\n' "${mode#*-}" \
+    "$(printf '%s\n' "${results[@]}" | awk '{print $1}' | median)" \
+    "$(printf '%s\n' "${results[@]}" | awk '{print $2}' | median)" \
+    "$(printf '%s\n' "${results[@]}" | awk '{print $3}' | median)"
+done
+echo "(medianas de $RUNS arranques por modo)"
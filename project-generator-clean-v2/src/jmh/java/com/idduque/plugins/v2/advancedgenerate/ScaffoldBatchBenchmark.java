@@ -0,0 +1,181 @@
+package com.idduque.plugins.v2.advancedgenerate;
+
+import com.idduque.plugins.v2.advancedgenerate.utils.GenerationTask;
+import com.idduque.plugins.v2.advancedgenerate.utils.ParallelExecutor;
+import org.apache.maven.plugin.logging.Log;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Generar {@code servicios} proyectos dentro de una misma JVM, como hace el goal
+ * {@code scaffold-batch}:
+ * <ul>
+ *     <li>{@code secuencial}: uno tras otro, lo mismo que N ejecuciones de {@code scaffold} sin
+ *     contar el arranque de la JVM y de Maven de cada una.</li>
+ *     <li>{@code paralelo}: con {@link ParallelExecutor} y {@value #PARALELISMO} proyectos a la vez.</li>
+ *     <li>{@code sinCambios}: repetir el lote sobre un árbol ya generado; solo compara hashes.</li>
+ * </ul>
+ * Las dos primeras usan {@code forzarRegeneracion} para que cada iteración escriba todo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScaffoldBatchBenchmark {
+    private static final int PARALELISMO = 8;
+
+    @Param({"1", "50", "500"})
+    int servicios;
+
+    private Path salida;
+    private List<ServiceDefinition> definiciones;
+    private ProjectScaffolder scaffolder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        salida = Files.createTempDirectory("scaffold-batch");
+        definiciones = new ArrayList<>(servicios);
+        for (int i = 0; i < servicios; i++) {
+            definiciones.add(new ServiceDefinition("ms-" + i, "com.acme.servicio" + i, "21",
+                    List.of("r2dbc"), List.of("api-rest"), "3.3.2", false));
+        }
+        scaffolder = new ProjectScaffolder(new SilentLog());
+        generar(PARALELISMO, false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> archivos = Files.walk(salida)) {
+            for (Path archivo : archivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(archivo);
+            }
+        }
+    }
+
+    @Benchmark
+    public long secuencial() throws IOException {
+        return generar(1, true);
+    }
+
+    @Benchmark
+    public long paralelo() throws IOException {
+        return generar(PARALELISMO, true);
+    }
+
+    @Benchmark
+    public long sinCambios() throws IOException {
+        return generar(PARALELISMO, false);
+    }
+
+    private long generar(int paralelismo, boolean forzarRegeneracion) throws IOException {
+        long[] escritos = new long[definiciones.size()];
+        List<GenerationTask> tareas = new ArrayList<>(definiciones.size());
+        for (int i = 0; i < definiciones.size(); i++) {
+            int indice = i;
+            ServiceDefinition servicio = definiciones.get(i);
+            tareas.add(() -> escritos[indice] = scaffolder.generar(servicio,
+                    salida.resolve(servicio.nombreProyecto()), forzarRegeneracion).escritos());
+        }
+        ParallelExecutor.ejecutarTodas(tareas, paralelismo);
+        long total = 0;
+        for (long escrito : escritos) {
+            total += escrito;
+        }
+        return total;
+    }
+
+    /**
+     * El costo de imprimir miles de líneas no es lo que se mide.
+     */
+    private static final class SilentLog implements Log {
+        @Override
+        public boolean isDebugEnabled() {
+            return false;
+        }
+
+        @Override
+        public void debug(CharSequence content) {
+        }
+
+        @Override
+        public void debug(CharSequence content, Throwable error) {
+        }
+
+        @Override
+        public void debug(Throwable error) {
+        }
+
+        @Override
+        public boolean isInfoEnabled() {
+            return false;
+        }
+
+        @Override
+        public void info(CharSequence content) {
+        }
+
+        @Override
+        public void info(CharSequence content, Throwable error) {
+        }
+
+        @Override
+        public void info(Throwable error) {
+        }
+
+        @Override
+        public boolean isWarnEnabled() {
+            return false;
+        }
+
+        @Override
+        public void warn(CharSequence content) {
+        }
+
+        @Override
+        public void warn(CharSequence content, Throwable error) {
+        }
+
+        @Override
+        public void warn(Throwable error) {
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+            return false;
+        }
+
+        @Override
+        public void error(CharSequence content) {
+        }
+
+        @Override
+        public void error(CharSequence content, Throwable error) {
+        }
+
+        @Override
+        public void error(Throwable error) {
+        }
+    }
+}
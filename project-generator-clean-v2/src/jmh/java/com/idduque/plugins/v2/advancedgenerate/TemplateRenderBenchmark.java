@@ -0,0 +1,280 @@
+package com.idduque.plugins.v2.advancedgenerate;
+
+import com.idduque.plugins.v2.advancedgenerate.template.Template;
+import com.idduque.plugins.v2.advancedgenerate.template.TemplateCache;
+import com.idduque.plugins.v2.advancedgenerate.template.TemplateContext;
+import com.idduque.plugins.v2.advancedgenerate.template.TemplateSink;
+import com.idduque.plugins.v2.advancedgenerate.utils.GenerationManifest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Los archivos de un proyecto estándar (POM raíz, cinco POMs de módulo, MainApplication, README
+ * y Dockerfile) con las plantillas precompiladas frente a las cadenas de {@link StringBuilder}
+ * que se usaban antes ({@link StringBuilderBaseline}, copiadas tal cual):
+ * <ul>
+ *     <li>{@code *Hash}: lo que hace una regeneración sin cambios; armar el contenido y calcular
+ *     su SHA-256.</li>
+ *     <li>{@code *Archivo}: lo que hace una generación nueva; armar el contenido, calcular el hash
+ *     y escribirlo en disco.</li>
+ * </ul>
+ * Conviene correrlo con {@code -prof gc}: la diferencia principal está en lo que se asigna.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemplateRenderBenchmark {
+    private static final Template POM_RAIZ = TemplateCache.obtener("pom-raiz.xml.tpl");
+    private static final Template POM_MODULO = TemplateCache.obtener("pom-modulo.xml.tpl");
+    private static final Template MAIN_APPLICATION = TemplateCache.obtener("MainApplication.java.tpl");
+    private static final Template README = TemplateCache.obtener("README.md.tpl");
+    private static final Template DOCKERFILE = TemplateCache.obtener("Dockerfile.tpl");
+
+    private final ServiceDefinition servicio = new ServiceDefinition("ms-pagos", "com.acme.pagos", "21",
+            List.of("r2dbc"), List.of("api-rest"), "3.3.2", false);
+    private final StringBuilderBaseline baseline = new StringBuilderBaseline(servicio.packageBase(),
+            servicio.nombreProyecto(), servicio.javaVersion(), "r2dbc", "api-rest", servicio.springBootVersion());
+    private Path directorio;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directorio = Files.createTempDirectory("template-bench");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> archivos = Files.walk(directorio)) {
+            for (Path archivo : archivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(archivo);
+            }
+        }
+    }
+
+    @Benchmark
+    public void stringBuilderHash(Blackhole blackhole) {
+        for (String contenido : baseline.todos()) {
+            blackhole.consume(GenerationManifest.hash(contenido.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Benchmark
+    public void plantillaHash(Blackhole blackhole) throws IOException {
+        TemplateContext contexto = ProjectScaffolder.contexto(servicio);
+        renderTodos(contexto, (plantilla, ctx, i) -> {
+            MessageDigest digest = GenerationManifest.nuevoDigest();
+            plantilla.render(ctx, TemplateSink.soloDigest(digest));
+            blackhole.consume(GenerationManifest.hex(digest.digest()));
+        });
+    }
+
+    @Benchmark
+    public void stringBuilderArchivo(Blackhole blackhole) throws IOException {
+        List<String> contenidos = baseline.todos();
+        for (int i = 0; i < contenidos.size(); i++) {
+            byte[] bytes = contenidos.get(i).getBytes(StandardCharsets.UTF_8);
+            blackhole.consume(GenerationManifest.hash(bytes));
+            Files.write(directorio.resolve("archivo-" + i), bytes);
+        }
+    }
+
+    @Benchmark
+    public void plantillaArchivo(Blackhole blackhole) throws IOException {
+        TemplateContext contexto = ProjectScaffolder.contexto(servicio);
+        renderTodos(contexto, (plantilla, ctx, i) -> {
+            MessageDigest digest = GenerationManifest.nuevoDigest();
+            try (FileChannel canal = FileChannel.open(directorio.resolve("archivo-" + i), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                plantilla.render(ctx, TemplateSink.hacia(canal, digest));
+            }
+            blackhole.consume(GenerationManifest.hex(digest.digest()));
+        });
+    }
+
+    private void renderTodos(TemplateContext contexto, Render render) throws IOException {
+        int i = 0;
+        render.render(POM_RAIZ, contexto, i++);
+        for (String ruta : servicio.rutasModulos()) {
+            TemplateContext modulo = contexto.hijo()
+                    .con("artifactId", ServiceDefinition.artifactId(ruta))
+                    .con("relativePath", "../../pom.xml")
+                    .con("esAppService", ServiceDefinition.APP_SERVICE.equals(ruta));
+            render.render(POM_MODULO, modulo, i++);
+        }
+        render.render(MAIN_APPLICATION, contexto, i++);
+        render.render(README, contexto, i++);
+        render.render(DOCKERFILE, contexto, i);
+    }
+
+    @FunctionalInterface
+    private interface Render {
+        void render(Template plantilla, TemplateContext contexto, int indice) throws IOException;
+    }
+
+    /**
+     * Generación anterior a las plantillas, copiada de PomGenerator, FileUtils y StructureCreator.
+     */
+    private record StringBuilderBaseline(String packageBase, String nombreProyecto, String javaVersion,
+                                         String adapterName, String entryName, String springBootVersion) {
+
+        List<String> todos() {
+            return List.of(
+                    pomRaiz(),
+                    pomHijo("app-service", true),
+                    pomHijo("model", false),
+                    pomHijo("usecase", false),
+                    pomHijo(adapterName, false),
+                    pomHijo(entryName, false),
+                    mainApplication(),
+                    readme(),
+                    dockerfile());
+        }
+
+        String pomRaiz() {
+            StringBuilder pom = new StringBuilder();
+            pom.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\" ")
+                    .append("xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" ")
+                    .append("xsi:schemaLocation=\"http://maven.apache.org/POM/4.0.0 ")
+                    .append("http://maven.apache.org/xsd/maven-4.0.0.xsd\">\n")
+                    .append("  <modelVersion>4.0.0</modelVersion>\n")
+                    .append("  <groupId>").append(packageBase).append("</groupId>\n")
+                    .append("  <artifactId>").append(nombreProyecto).append("</artifactId>\n")
+                    .append("  <version>1.0.0</version>\n")
+                    .append("  <packaging>pom</packaging>\n")
+                    .append("  <modules>\n")
+                    .append("    <module>applications/app-service</module>\n")
+                    .append("    <module>domain/model</module>\n")
+                    .append("    <module>domain/usecase</module>\n")
+                    .append("    <module>infrastructure/driven-adapters/")
+                    .append(adapterName).append("</module>\n")
+                    .append("    <module>infrastructure/entry-points/")
+                    .append(entryName).append("</module>\n")
+                    .append("  </modules>\n")
+                    .append("  <properties>\n")
+                    .append("    <java.version>").append(javaVersion).append("</java.version>\n")
+                    .append("    <spring-boot.version>").append(springBootVersion).append("</spring-boot.version>\n")
+                    .append("  </properties>\n")
+                    .append("  <build>\n")
+                    .append("    <pluginManagement>\n")
+                    .append("      <plugins>\n")
+                    .append("        <plugin>\n")
+                    .append("          <groupId>org.springframework.boot</groupId>\n")
+                    .append("          <artifactId>spring-boot-maven-plugin</artifactId>\n")
+                    .append("          <version>${spring-boot.version}</version>\n")
+                    .append("        </plugin>\n")
+                    .append("      </plugins>\n")
+                    .append("    </pluginManagement>\n")
+                    .append("  </build>\n")
+                    .append("</project>\n");
+            return pom.toString();
+        }
+
+        String pomHijo(String artifactId, boolean esAppService) {
+            StringBuilder contenido = new StringBuilder();
+            contenido.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\" ")
+                    .append("xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" ")
+                    .append("xsi:schemaLocation=\"http://maven.apache.org/POM/4.0.0 ")
+                    .append("http://maven.apache.org/xsd/maven-4.0.0.xsd\">\n")
+                    .append("  <modelVersion>4.0.0</modelVersion>\n")
+                    .append("  <parent>\n")
+                    .append("    <groupId>").append(packageBase).append("</groupId>\n")
+                    .append("    <artifactId>").append(nombreProyecto).append("</artifactId>\n")
+                    .append("    <version>1.0.0</version>\n")
+                    .append("    <relativePath>").append("../../pom.xml").append("</relativePath>\n")
+                    .append("  </parent>\n\n")
+                    .append("  <artifactId>").append(artifactId).append("</artifactId>\n")
+                    .append("  <packaging>jar</packaging>\n\n");
+
+            if (esAppService) {
+                contenido.append("  <dependencies>\n")
+                        .append("    <dependency>\n")
+                        .append("      <groupId>org.springframework.boot</groupId>\n")
+                        .append("      <artifactId>spring-boot-starter</artifactId>\n")
+                        .append("      <version>").append(springBootVersion).append("</version>\n")
+                        .append("    </dependency>\n")
+                        .append("    <dependency>\n")
+                        .append("      <groupId>org.springframework.boot</groupId>\n")
+                        .append("      <artifactId>spring-boot-starter-test</artifactId>\n")
+                        .append("      <version>").append(springBootVersion).append("</version>\n")
+                        .append("      <scope>test</scope>\n")
+                        .append("    </dependency>\n")
+                        .append("  </dependencies>\n\n")
+                        .append("  <build>\n")
+                        .append("    <plugins>\n")
+                        .append("      <plugin>\n")
+                        .append("        <groupId>org.springframework.boot</groupId>\n")
+                        .append("        <artifactId>spring-boot-maven-plugin</artifactId>\n")
+                        .append("        <version>").append(springBootVersion).append("</version>\n")
+                        .append("      </plugin>\n")
+                        .append("    </plugins>\n")
+                        .append("  </build>\n");
+            } else {
+                contenido.append("  <dependencies>\n")
+                        .append("    <!-- Dependencias específicas del módulo -->\n")
+                        .append("  </dependencies>\n");
+            }
+
+            contenido.append("</project>\n");
+            return contenido.toString();
+        }
+
+        String mainApplication() {
+            StringBuilder contenido = new StringBuilder();
+            contenido.append("package ").append(packageBase).append(";\n\n")
+                    .append("import org.springframework.boot.SpringApplication;\n")
+                    .append("import org.springframework.boot.autoconfigure.SpringBootApplication;\n\n")
+                    .append("@SpringBootApplication\n")
+                    .append("public class MainApplication {\n")
+                    .append("    public static void main(String[] args) {\n")
+                    .append("        SpringApplication.run(MainApplication.class, args);\n")
+                    .append("    }\n")
+                    .append("}\n");
+            return contenido.toString();
+        }
+
+        String readme() {
+            StringBuilder contenido = new StringBuilder();
+            contenido.append("# ").append(nombreProyecto).append("\n\n")
+                    .append("Proyecto generado automáticamente con **Project Generator Clean**\n\n")
+                    .append("📦 Autor: **Iván David Duque Perdomo**\n")
+                    .append("🧱 Arquitectura: Clean Architecture (multi-módulo Maven)\n")
+                    .append("⚙️ Java: ").append(javaVersion).append("\n");
+            return contenido.toString();
+        }
+
+        String dockerfile() {
+            StringBuilder dockerContent = new StringBuilder();
+            dockerContent.append("FROM eclipse-temurin:22-jdk\n")
+                    .append("WORKDIR /app\n")
+                    .append("COPY target/*.jar app.jar\n")
+                    .append("EXPOSE 8080\n")
+                    .append("ENTRYPOINT [\"java\",\"-jar\",\"/app/app.jar\"]\n");
+            return dockerContent.toString();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.idduque.plugins.v2.advancedgenerate;
+
+import com.idduque.plugins.v2.advancedgenerate.utils.GenerationTask;
+import com.idduque.plugins.v2.advancedgenerate.utils.ParallelExecutor;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Genera todos los servicios de un manifiesto en una sola ejecución de Maven: el arranque de la
+ * JVM y de Maven se paga una vez y los proyectos se generan en paralelo, con un máximo de
+ * {@code paralelismo} a la vez. Cada proyecto va a su propia carpeta dentro de
+ * {@code directorioSalida} y se genera igual que con el goal {@code scaffold}.
+ */
+@Mojo(name = "scaffold-batch", requiresProject = false)
+public class GenerateScaffoldBatch extends AbstractMojo {
+
+    /**
+     * CSV con un servicio por línea; el formato está en {@link ServiceManifestReader}.
+     */
+    @Parameter(property = "manifiestoServicios", defaultValue = "services.csv")
+    private String manifiestoServicios;
+
+    /**
+     * Carpeta donde se crea un directorio por servicio. Por defecto, el directorio actual.
+     */
+    @Parameter(property = "directorioSalida")
+    private String directorioSalida;
+
+    /**
+     * Proyectos generándose a la vez.
+     */
+    @Parameter(property = "paralelismo", defaultValue = "8")
+    private int paralelismo;
+
+    @Parameter(property = "javaVersion", defaultValue = "21")
+    private String javaVersion;
+
+    @Parameter(property = "adapterName", defaultValue = "generic-adapter")
+    private String adapterName;
+
+    @Parameter(property = "entryName", defaultValue = "generic-entry")
+    private String entryName;
+
+    @Parameter(property = "springBootVersion", defaultValue = "3.3.2")
+    private String springBootVersion;
+
+    /**
+     * Valor de {@code perfProfile} para los servicios que no lo indican en el manifiesto.
+     */
+    @Parameter(property = "perfProfile", defaultValue = "false")
+    private boolean perfProfile;
+
+    @Parameter(property = "forzarRegeneracion", defaultValue = "false")
+    private boolean forzarRegeneracion;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (paralelismo <= 0) {
+            throw new MojoExecutionException("paralelismo debe ser mayor que cero: " + paralelismo);
+        }
+        String currentDir = System.getProperty("user.dir");
+        Path manifiesto = Paths.get(currentDir).resolve(manifiestoServicios);
+        Path salida = directorioSalida == null ? Paths.get(currentDir) : Paths.get(currentDir).resolve(directorioSalida);
+
+        List<ServiceDefinition> servicios = leerManifiesto(manifiesto);
+        getLog().info("🚀 Generando " + servicios.size() + " servicios desde " + manifiesto
+                + " (paralelismo " + paralelismo + ")");
+
+        long inicio = System.nanoTime();
+        Resultado[] resultados = generarTodos(servicios, salida);
+        long totalNanos = System.nanoTime() - inicio;
+
+        reportar(servicios, resultados, salida, totalNanos);
+    }
+
+    private List<ServiceDefinition> leerManifiesto(Path manifiesto) throws MojoExecutionException {
+        try {
+            ServiceDefinition valoresPorDefecto = new ServiceDefinition(null, null, javaVersion,
+                    ServiceDefinition.modulos(adapterName), ServiceDefinition.modulos(entryName), springBootVersion,
+                    perfProfile);
+            return new ServiceManifestReader(valoresPorDefecto).leer(manifiesto);
+        } catch (IOException e) {
+            getLog().error("❌ No se pudo leer el manifiesto de servicios: " + e.getMessage());
+            throw new MojoExecutionException("No se pudo leer el manifiesto " + manifiesto, e);
+        } catch (IllegalArgumentException e) {
+            getLog().error("❌ " + e.getMessage());
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Un proyecto que falla no detiene a los demás: su error, de E/S o de ejecución (por ejemplo una
+     * plantilla que no se puede renderizar), queda en el resultado.
+     */
+    private Resultado[] generarTodos(List<ServiceDefinition> servicios, Path salida) throws MojoExecutionException {
+        ProjectScaffolder scaffolder = new ProjectScaffolder(getLog());
+        Resultado[] resultados = new Resultado[servicios.size()];
+        List<GenerationTask> tareas = new ArrayList<>(servicios.size());
+        for (int i = 0; i < servicios.size(); i++) {
+            int indice = i;
+            ServiceDefinition servicio = servicios.get(i);
+            tareas.add(() -> {
+                long inicio = System.nanoTime();
+                try {
+                    ScaffoldResult resultado = scaffolder.generar(servicio,
+                            salida.resolve(servicio.nombreProyecto()), forzarRegeneracion);
+                    resultados[indice] = new Resultado(resultado, null, System.nanoTime() - inicio);
+                } catch (IOException | RuntimeException e) {
+                    resultados[indice] = new Resultado(null, e, System.nanoTime() - inicio);
+                }
+            });
+        }
+
+        try {
+            ParallelExecutor.ejecutarTodas(tareas, paralelismo);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Generación por lotes interrumpida", e);
+        }
+        return resultados;
+    }
+
+    private void reportar(List<ServiceDefinition> servicios, Resultado[] resultados, Path salida, long totalNanos)
+            throws MojoExecutionException {
+        long escritos = 0;
+        long omitidos = 0;
+        long sumaNanos = 0;
+        List<String> fallidos = new ArrayList<>();
+
+        for (int i = 0; i < servicios.size(); i++) {
+            String nombre = servicios.get(i).nombreProyecto();
+            Resultado resultado = resultados[i];
+            sumaNanos += resultado.nanos();
+            if (resultado.error() != null) {
+                fallidos.add(nombre);
+                Exception error = resultado.error();
+                getLog().error("❌ " + nombre + ": " + (error.getMessage() != null ? error.getMessage() : error));
+                continue;
+            }
+            escritos += resultado.scaffold().escritos();
+            omitidos += resultado.scaffold().omitidos();
+            getLog().info("⏱️ " + nombre + ": " + milis(resultado.nanos())
+                    + " (escritos " + resultado.scaffold().escritos()
+                    + ", sin cambios " + resultado.scaffold().omitidos()
+                    + ") · " + resultado.scaffold().tiempos().resumen());
+        }
+
+        getLog().info("📊 Archivos escritos: " + escritos + ", sin cambios: " + omitidos);
+        getLog().info("🏁 " + (servicios.size() - fallidos.size()) + "/" + servicios.size()
+                + " servicios generados en " + salida.toAbsolutePath() + " · total " + milis(totalNanos)
+                + " (suma por proyecto " + milis(sumaNanos) + ")");
+
+        if (!fallidos.isEmpty()) {
+            throw new MojoExecutionException("Fallaron " + fallidos.size() + " servicios: " + fallidos);
+        }
+    }
+
+    private static String milis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos) + " ms";
+    }
+
+    private record Resultado(ScaffoldResult scaffold, Exception error, long nanos) {
+    }
+}
@@ -1,6 +1,5 @@
 package com.idduque.plugins.v2.advancedgenerate;
 
-import com.idduque.plugins.v2.advancedgenerate.utils.FileUtils;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -22,9 +21,15 @@ public class GenerateScaffoldCleanStructure extends AbstractMojo {
     @Parameter(property = "javaVersion", defaultValue = "21")
     private String javaVersion;
 
+    /**
+     * Uno o varios driven adapters separados por coma, por ejemplo {@code r2dbc,kafka}.
+     */
     @Parameter(property = "adapterName", defaultValue = "generic-adapter")
     private String adapterName;
 
+    /**
+     * Uno o varios entry points separados por coma.
+     */
     @Parameter(property = "entryName", defaultValue = "generic-entry")
     private String entryName;
 
@@ -37,51 +42,42 @@ public class GenerateScaffoldCleanStructure extends AbstractMojo {
     @Parameter(property = "springBootVersion", defaultValue = "3.3.2")
     private String springBootVersion;
 
+    /**
+     * Ignora el manifiesto de la generación anterior y reescribe todos los archivos.
+     */
+    @Parameter(property = "forzarRegeneracion", defaultValue = "false")
+    private boolean forzarRegeneracion;
+
+    /**
+     * Agrega lo necesario para medir el servicio desde el día uno: módulo {@code benchmarks} con
+     * JMH, actuator y Micrometer/Prometheus en {@code app-service} y un Dockerfile con capas, CDS y
+     * flags de JVM para contenedores.
+     */
+    @Parameter(property = "perfProfile", defaultValue = "false")
+    private boolean perfProfile;
 
     @Override
     public void execute() throws MojoExecutionException {
         getLog().info("🚀 Iniciando generación de proyecto: " + nombreProyecto);
         Path baseDir = determinarDirectorioBase();
-
         try {
-            crearEstructuraProyecto(baseDir);
-            generarPoms(baseDir);
-            crearArchivosBase(baseDir);
+            ServiceDefinition servicio = new ServiceDefinition(nombreProyecto, packageBase, javaVersion,
+                    ServiceDefinition.modulos(adapterName), ServiceDefinition.modulos(entryName), springBootVersion,
+                    perfProfile);
+
+            ScaffoldResult resultado = new ProjectScaffolder(getLog()).generar(servicio, baseDir, forzarRegeneracion);
 
             getLog().info("✅ Proyecto generado exitosamente en: " + baseDir.toAbsolutePath());
+            getLog().info("📊 Archivos escritos: " + resultado.escritos() + ", sin cambios: " + resultado.omitidos());
+            getLog().info("⏱️ Tiempos por fase: " + resultado.tiempos().resumen());
         } catch (IOException e) {
             manejarErrorGeneracion(e);
+        } catch (IllegalArgumentException e) {
+            getLog().error("❌ " + e.getMessage());
+            throw new MojoExecutionException(e.getMessage(), e);
         }
     }
 
-    private void crearEstructuraProyecto(Path baseDir) throws IOException {
-        StructureCreator estructura = new StructureCreator(getLog(), packageBase, adapterName, entryName);
-        estructura.crearEstructura(baseDir);
-        getLog().info("📁 Estructura base creada correctamente en: " + baseDir);
-    }
-
-    private void generarPoms(Path baseDir) throws IOException {
-        PomGenerator pomGenerator = new PomGenerator(
-                getLog(),
-                packageBase,
-                nombreProyecto,
-                javaVersion,
-                adapterName,
-                entryName,
-                springBootVersion
-        );
-        pomGenerator.crearPomRaiz(baseDir);
-        pomGenerator.crearPomsHijos(baseDir);
-        getLog().info("📦 Archivos POM generados exitosamente.");
-    }
-
-    private void crearArchivosBase(Path baseDir) throws IOException {
-        FileUtils fileUtils = new FileUtils(getLog());
-        fileUtils.crearMainApplication(baseDir, packageBase);
-        fileUtils.crearReadme(baseDir, nombreProyecto, javaVersion);
-        getLog().info("📝 Archivos base (MainApplication, README) creados correctamente.");
-    }
-
     private void manejarErrorGeneracion(IOException e) throws MojoExecutionException {
         getLog().error("❌ Error al generar el proyecto: " + e.getMessage());
         throw new MojoExecutionException("Error al generar la estructura del proyecto", e);
@@ -0,0 +1,39 @@
+package com.idduque.plugins.v2.advancedgenerate;
+
+import com.idduque.plugins.v2.advancedgenerate.template.Template;
+import com.idduque.plugins.v2.advancedgenerate.template.TemplateCache;
+import com.idduque.plugins.v2.advancedgenerate.template.TemplateContext;
+import com.idduque.plugins.v2.advancedgenerate.utils.GenerationTask;
+import com.idduque.plugins.v2.advancedgenerate.utils.IncrementalFileWriter;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Archivos propios de {@code perfProfile} además de los POMs y el Dockerfile: la configuración de
+ * actuator y métricas de {@code app-service} y un benchmark JMH de ejemplo. Ambos son del equipo
+ * una vez generados, así que nunca se sobrescriben.
+ */
+public class PerfProfileGenerator {
+    private static final Template APPLICATION_YAML = TemplateCache.obtener("application.yaml.tpl");
+    private static final Template EJEMPLO_BENCHMARK = TemplateCache.obtener("EjemploBenchmark.java.tpl");
+
+    private final IncrementalFileWriter writer;
+    private final ServiceDefinition servicio;
+    private final TemplateContext contexto;
+
+    public PerfProfileGenerator(IncrementalFileWriter writer, ServiceDefinition servicio, TemplateContext contexto) {
+        this.writer = writer;
+        this.servicio = servicio;
+        this.contexto = contexto;
+    }
+
+    public List<GenerationTask> tareas(Path baseDir) {
+        Path applicationYaml = baseDir.resolve("applications/app-service/src/main/resources/application.yaml");
+        Path benchmark = baseDir.resolve(ServiceDefinition.BENCHMARKS + "/src/main/java/"
+                + servicio.packageBase().replace('.', '/') + "/benchmarks/EjemploBenchmark.java");
+        return List.of(
+                () -> writer.crearSiNoExiste(applicationYaml, APPLICATION_YAML, contexto),
+                () -> writer.crearSiNoExiste(benchmark, EJEMPLO_BENCHMARK, contexto));
+    }
+}
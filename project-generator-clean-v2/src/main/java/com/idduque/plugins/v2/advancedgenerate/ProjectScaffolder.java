@@ -0,0 +1,103 @@
+package com.idduque.plugins.v2.advancedgenerate;
+
+import com.idduque.plugins.v2.advancedgenerate.template.TemplateContext;
+import com.idduque.plugins.v2.advancedgenerate.utils.FileUtils;
+import com.idduque.plugins.v2.advancedgenerate.utils.GenerationManifest;
+import com.idduque.plugins.v2.advancedgenerate.utils.GenerationTask;
+import com.idduque.plugins.v2.advancedgenerate.utils.IncrementalFileWriter;
+import com.idduque.plugins.v2.advancedgenerate.utils.ParallelExecutor;
+import com.idduque.plugins.v2.advancedgenerate.utils.PhaseTimer;
+import org.apache.maven.plugin.logging.Log;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Genera un proyecto completo (estructura, POMs y archivos base) en un directorio. Lo usan tanto
+ * el goal {@code scaffold} como {@code scaffold-batch}; no guarda estado entre proyectos, así que
+ * una misma instancia puede generar varios a la vez.
+ */
+public class ProjectScaffolder {
+    private final Log log;
+
+    public ProjectScaffolder(Log log) {
+        this.log = log;
+    }
+
+    public ScaffoldResult generar(ServiceDefinition servicio, Path baseDir, boolean forzarRegeneracion)
+            throws IOException {
+        PhaseTimer tiempos = new PhaseTimer();
+
+        long inicio = System.nanoTime();
+        GenerationManifest manifest = forzarRegeneracion
+                ? GenerationManifest.vacio(baseDir)
+                : GenerationManifest.cargar(baseDir);
+        IncrementalFileWriter writer = new IncrementalFileWriter(log, manifest);
+        tiempos.registrar("manifiesto", inicio);
+
+        TemplateContext contexto = contexto(servicio);
+        tiempos.medir("estructura", () -> crearEstructuraProyecto(servicio, contexto, baseDir, writer));
+        tiempos.medir("archivos", () -> generarArchivos(servicio, contexto, baseDir, writer));
+        tiempos.medir("manifiesto", manifest::guardar);
+
+        return new ScaffoldResult(writer.escritos(), writer.omitidos(), tiempos);
+    }
+
+    /**
+     * Único contexto de plantillas del proyecto; los POMs de cada módulo agregan lo suyo en un
+     * contexto hijo.
+     */
+    static TemplateContext contexto(ServiceDefinition servicio) {
+        List<TemplateContext> modulos = servicio.rutasModulos().stream()
+                .map(ruta -> TemplateContext.raiz().con("ruta", ruta))
+                .toList();
+        return TemplateContext.raiz()
+                .con("nombreProyecto", servicio.nombreProyecto())
+                .con("packageBase", servicio.packageBase())
+                .con("javaVersion", servicio.javaVersion())
+                .con("springBootVersion", servicio.springBootVersion())
+                .con("perfProfile", servicio.perfProfile())
+                .con("modulos", modulos);
+    }
+
+    private void crearEstructuraProyecto(ServiceDefinition servicio, TemplateContext contexto, Path baseDir,
+                                         IncrementalFileWriter writer) throws IOException {
+        StructureCreator estructura = new StructureCreator(log, writer, servicio, contexto);
+        estructura.crearEstructura(baseDir);
+        log.info("📁 Estructura base creada correctamente en: " + baseDir);
+    }
+
+    /**
+     * POMs y archivos base no dependen entre sí: se generan a la vez, un hilo virtual por archivo.
+     */
+    private void generarArchivos(ServiceDefinition servicio, TemplateContext contexto, Path baseDir,
+                                 IncrementalFileWriter writer) throws IOException {
+        List<GenerationTask> tareas = new ArrayList<>();
+        tareas.addAll(tareasPoms(servicio, contexto, baseDir, writer));
+        tareas.addAll(tareasArchivosBase(contexto, baseDir, writer));
+        if (servicio.perfProfile()) {
+            tareas.addAll(new PerfProfileGenerator(writer, servicio, contexto).tareas(baseDir));
+        }
+        ParallelExecutor.ejecutarTodas(tareas);
+        log.info("📦 Archivos POM y archivos base (MainApplication, README) generados correctamente.");
+    }
+
+    private List<GenerationTask> tareasPoms(ServiceDefinition servicio, TemplateContext contexto, Path baseDir,
+                                            IncrementalFileWriter writer) {
+        PomGenerator pomGenerator = new PomGenerator(log, writer, servicio, contexto);
+        List<GenerationTask> tareas = new ArrayList<>();
+        tareas.add(() -> pomGenerator.crearPomRaiz(baseDir));
+        tareas.addAll(pomGenerator.tareasPomsHijos(baseDir));
+        return tareas;
+    }
+
+    private List<GenerationTask> tareasArchivosBase(TemplateContext contexto, Path baseDir,
+                                                    IncrementalFileWriter writer) {
+        FileUtils fileUtils = new FileUtils(log, writer);
+        return List.of(
+                () -> fileUtils.crearMainApplication(baseDir, contexto),
+                () -> fileUtils.crearReadme(baseDir, contexto));
+    }
+}
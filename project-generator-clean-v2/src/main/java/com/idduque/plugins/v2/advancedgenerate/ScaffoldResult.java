@@ -0,0 +1,9 @@
+package com.idduque.plugins.v2.advancedgenerate;
+
+import com.idduque.plugins.v2.advancedgenerate.utils.PhaseTimer;
+
+/**
+ * Resultado de generar un proyecto: archivos escritos, archivos sin cambios y tiempo por fase.
+ */
+public record ScaffoldResult(long escritos, long omitidos, PhaseTimer tiempos) {
+}
@@ -0,0 +1,79 @@
+package com.idduque.plugins.v2.advancedgenerate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Datos de un servicio a generar: lo que el goal {@code scaffold} recibe por parámetros y el goal
+ * {@code scaffold-batch} lee de cada línea del manifiesto de servicios.
+ * <p>
+ * Un servicio puede tener varios driven adapters y varios entry points; cada uno es un módulo con
+ * su carpeta y su POM, y el nombre de la carpeta es su artifactId.
+ */
+public record ServiceDefinition(
+        String nombreProyecto,
+        String packageBase,
+        String javaVersion,
+        List<String> adapterNames,
+        List<String> entryNames,
+        String springBootVersion,
+        boolean perfProfile) {
+
+    public static final String APP_SERVICE = "applications/app-service";
+    public static final String BENCHMARKS = "benchmarks";
+    private static final List<String> MODULOS_FIJOS = List.of(APP_SERVICE, "domain/model", "domain/usecase");
+
+    /**
+     * @throws IllegalArgumentException si no hay adapters o entry points, o si dos módulos
+     *                                  terminarían con el mismo artifactId.
+     */
+    public ServiceDefinition {
+        adapterNames = List.copyOf(adapterNames);
+        entryNames = List.copyOf(entryNames);
+        if (adapterNames.isEmpty() || entryNames.isEmpty()) {
+            throw new IllegalArgumentException("Se necesita al menos un adapter y un entry point");
+        }
+        Set<String> artifactIds = new HashSet<>();
+        for (String ruta : rutasModulos(adapterNames, entryNames, perfProfile)) {
+            if (!artifactIds.add(artifactId(ruta))) {
+                throw new IllegalArgumentException("Módulo repetido: " + artifactId(ruta));
+            }
+        }
+    }
+
+    /**
+     * Separa una lista de nombres de módulo escrita como {@code r2dbc,kafka} o {@code r2dbc|kafka}.
+     */
+    public static List<String> modulos(String valor) {
+        return Arrays.stream(valor.split("[,|]"))
+                .map(String::strip)
+                .filter(nombre -> !nombre.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Rutas de todos los módulos relativas a la raíz del proyecto, en el orden del POM raíz. Con
+     * {@code perfProfile} se agrega el módulo de benchmarks al final.
+     */
+    public List<String> rutasModulos() {
+        return rutasModulos(adapterNames, entryNames, perfProfile);
+    }
+
+    public static String artifactId(String rutaModulo) {
+        return rutaModulo.substring(rutaModulo.lastIndexOf('/') + 1);
+    }
+
+    private static List<String> rutasModulos(List<String> adapterNames, List<String> entryNames,
+                                             boolean perfProfile) {
+        List<String> rutas = new ArrayList<>(MODULOS_FIJOS);
+        adapterNames.forEach(adapter -> rutas.add("infrastructure/driven-adapters/" + adapter));
+        entryNames.forEach(entry -> rutas.add("infrastructure/entry-points/" + entry));
+        if (perfProfile) {
+            rutas.add(BENCHMARKS);
+        }
+        return rutas;
+    }
+}
@@ -0,0 +1,162 @@
+package com.idduque.plugins.v2.advancedgenerate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Lee el manifiesto de servicios del goal {@code scaffold-batch}: un CSV con encabezado, una línea
+ * por servicio. Ejemplo:
+ * <pre>
+ * # Servicios del dominio de pagos
+ * nombreProyecto,packageBase,adapterName,entryName,javaVersion,springBootVersion
+ * ms-pagos,com.acme.pagos,r2dbc,api-rest,21,3.3.2
+ * ms-cobros,com.acme.cobros,jdbc|kafka,api-rest,,
+ * </pre>
+ * Las columnas pueden ir en cualquier orden; solo {@code nombreProyecto} y {@code packageBase} son
+ * obligatorias. Las celdas vacías o las columnas ausentes toman los valores por defecto del goal.
+ * {@code adapterName} y {@code entryName} admiten varios módulos separados por {@code |};
+ * {@code perfProfile} es {@code true} o {@code false}.
+ * Se ignoran las líneas en blanco y las que empiezan con {@code #}.
+ */
+public class ServiceManifestReader {
+    private static final List<String> COLUMNAS = List.of(
+            "nombreProyecto", "packageBase", "adapterName", "entryName", "javaVersion", "springBootVersion",
+            "perfProfile");
+    private static final Pattern NOMBRE_VALIDO = Pattern.compile("[A-Za-z0-9](?:[A-Za-z0-9_-]|\\.(?!\\.))*");
+    private static final Pattern PAQUETE_VALIDO =
+            Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*(\\.[A-Za-z_$][A-Za-z0-9_$]*)*");
+
+    private final ServiceDefinition valoresPorDefecto;
+
+    /**
+     * @param valoresPorDefecto valores para las celdas vacías; su nombre y paquete no se usan.
+     */
+    public ServiceManifestReader(ServiceDefinition valoresPorDefecto) {
+        this.valoresPorDefecto = valoresPorDefecto;
+    }
+
+    /**
+     * @throws IllegalArgumentException si el manifiesto está mal formado, indicando la línea.
+     */
+    public List<ServiceDefinition> leer(Path manifiesto) throws IOException {
+        List<String> lineas = Files.readAllLines(manifiesto, StandardCharsets.UTF_8);
+        Map<String, Integer> indices = null;
+        List<ServiceDefinition> servicios = new ArrayList<>();
+        Set<String> nombres = new HashSet<>();
+
+        for (int numero = 1; numero <= lineas.size(); numero++) {
+            String linea = lineas.get(numero - 1).strip();
+            if (linea.isEmpty() || linea.startsWith("#")) {
+                continue;
+            }
+            String[] celdas = linea.split(",", -1);
+            if (indices == null) {
+                indices = leerEncabezado(celdas, numero);
+                continue;
+            }
+            if (celdas.length > indices.size()) {
+                throw error(numero, "tiene " + celdas.length + " columnas y el encabezado " + indices.size());
+            }
+            ServiceDefinition servicio = leerServicio(celdas, indices, numero);
+            if (!nombres.add(servicio.nombreProyecto())) {
+                throw error(numero, "el proyecto '" + servicio.nombreProyecto() + "' ya está en el manifiesto");
+            }
+            servicios.add(servicio);
+        }
+
+        if (indices == null) {
+            throw new IllegalArgumentException("El manifiesto " + manifiesto + " no tiene encabezado");
+        }
+        return servicios;
+    }
+
+    private static Map<String, Integer> leerEncabezado(String[] celdas, int numero) {
+        Map<String, Integer> indices = new HashMap<>();
+        for (int i = 0; i < celdas.length; i++) {
+            String columna = celdas[i].strip();
+            if (!COLUMNAS.contains(columna)) {
+                throw error(numero, "columna desconocida '" + columna + "'; se esperan " + COLUMNAS);
+            }
+            if (indices.putIfAbsent(columna, i) != null) {
+                throw error(numero, "columna repetida '" + columna + "'");
+            }
+        }
+        if (!indices.containsKey("nombreProyecto") || !indices.containsKey("packageBase")) {
+            throw error(numero, "el encabezado debe incluir nombreProyecto y packageBase");
+        }
+        return indices;
+    }
+
+    private ServiceDefinition leerServicio(String[] celdas, Map<String, Integer> indices, int numero) {
+        String nombreProyecto = celda(celdas, indices, "nombreProyecto", null);
+        String packageBase = celda(celdas, indices, "packageBase", null);
+
+        // Nombres que terminan siendo carpetas: nada de rutas ni "..".
+        if (nombreProyecto == null || !NOMBRE_VALIDO.matcher(nombreProyecto).matches()) {
+            throw error(numero, "nombreProyecto inválido: '" + nombreProyecto + "'");
+        }
+        if (packageBase == null || !PAQUETE_VALIDO.matcher(packageBase).matches()) {
+            throw error(numero, "packageBase inválido: '" + packageBase + "'");
+        }
+
+        List<String> adapterNames = modulos(celdas, indices, "adapterName", valoresPorDefecto.adapterNames(), numero);
+        List<String> entryNames = modulos(celdas, indices, "entryName", valoresPorDefecto.entryNames(), numero);
+
+        try {
+            return new ServiceDefinition(
+                    nombreProyecto,
+                    packageBase,
+                    celda(celdas, indices, "javaVersion", valoresPorDefecto.javaVersion()),
+                    adapterNames,
+                    entryNames,
+                    celda(celdas, indices, "springBootVersion", valoresPorDefecto.springBootVersion()),
+                    perfProfile(celdas, indices, numero));
+        } catch (IllegalArgumentException e) {
+            throw error(numero, e.getMessage());
+        }
+    }
+
+    private boolean perfProfile(String[] celdas, Map<String, Integer> indices, int numero) {
+        String valor = celda(celdas, indices, "perfProfile", String.valueOf(valoresPorDefecto.perfProfile()));
+        if (!valor.equalsIgnoreCase("true") && !valor.equalsIgnoreCase("false")) {
+            throw error(numero, "perfProfile debe ser true o false: '" + valor + "'");
+        }
+        return Boolean.parseBoolean(valor);
+    }
+
+    /**
+     * Varios módulos en una celda van separados por {@code |}, por ejemplo {@code r2dbc|kafka}.
+     */
+    private static List<String> modulos(String[] celdas, Map<String, Integer> indices, String columna,
+                                        List<String> porDefecto, int numero) {
+        String valor = celda(celdas, indices, columna, null);
+        List<String> modulos = valor == null ? porDefecto : ServiceDefinition.modulos(valor);
+        for (String modulo : modulos) {
+            if (!NOMBRE_VALIDO.matcher(modulo).matches()) {
+                throw error(numero, columna + " inválido: '" + modulo + "'");
+            }
+        }
+        return modulos;
+    }
+
+    private static String celda(String[] celdas, Map<String, Integer> indices, String columna, String porDefecto) {
+        Integer indice = indices.get(columna);
+        if (indice == null || indice >= celdas.length || celdas[indice].isBlank()) {
+            return porDefecto;
+        }
+        return celdas[indice].strip();
+    }
+
+    private static IllegalArgumentException error(int numero, String detalle) {
+        return new IllegalArgumentException("Manifiesto de servicios, línea " + numero + ": " + detalle);
+    }
+}
@@ -1,28 +1,38 @@
 package com.idduque.plugins.v2.advancedgenerate;
 
+import com.idduque.plugins.v2.advancedgenerate.template.Template;
+import com.idduque.plugins.v2.advancedgenerate.template.TemplateCache;
+import com.idduque.plugins.v2.advancedgenerate.template.TemplateContext;
+import com.idduque.plugins.v2.advancedgenerate.utils.IncrementalFileWriter;
 import org.apache.maven.plugin.logging.Log;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 public class StructureCreator {
+    private static final Template DOCKERFILE = TemplateCache.obtener("Dockerfile.tpl");
+    private static final Template DOCKERFILE_PERF = TemplateCache.obtener("Dockerfile-perf.tpl");
+
     private final Log log;
-    private final String packageBase;
-    private final String adapterName;
-    private final String entryName;
+    private final IncrementalFileWriter writer;
+    private final ServiceDefinition servicio;
+    private final TemplateContext contexto;
 
-    public StructureCreator(Log log, String packageBase, String adapterName, String entryName) {
+    public StructureCreator(Log log, IncrementalFileWriter writer, ServiceDefinition servicio,
+                            TemplateContext contexto) {
         this.log = log;
-        this.packageBase = packageBase;
-        this.adapterName = adapterName;
-        this.entryName = entryName;
+        this.writer = writer;
+        this.servicio = servicio;
+        this.contexto = contexto;
     }
 
     public void crearEstructura(Path baseDir) throws IOException {
-        String pkg = packageBase.replace('.', '/');
+        String pkg = servicio.packageBase().replace('.', '/');
 
-        String[] paths = {
+        List<String> paths = new ArrayList<>(List.of(
                 // 🏗️ Application Layer
                 "applications/app-service/src/main/java/" + pkg,
                 "applications/app-service/src/main/resources",
@@ -30,15 +40,23 @@ public class StructureCreator {
 
                 // 🧩 Domain Layer
                 "domain/model/src/main/java/" + pkg,
-                "domain/usecase/src/main/java/" + pkg,
+                "domain/usecase/src/main/java/" + pkg));
+
+        // 🔌 Infrastructure Layer
+        for (String adapterName : servicio.adapterNames()) {
+            paths.add("infrastructure/driven-adapters/" + adapterName + "/src/main/java/" + pkg);
+        }
+        for (String entryName : servicio.entryNames()) {
+            paths.add("infrastructure/entry-points/" + entryName + "/src/main/java/" + pkg);
+        }
 
-                // 🔌 Infrastructure Layer
-                "infrastructure/driven-adapters/" + adapterName + "/src/main/java/" + pkg,
-                "infrastructure/entry-points/" + entryName + "/src/main/java/" + pkg,
+        // 📈 Benchmarks (perfProfile)
+        if (servicio.perfProfile()) {
+            paths.add(ServiceDefinition.BENCHMARKS + "/src/main/java/" + pkg + "/benchmarks");
+        }
 
-                // 🚀 Deployment Layer
-                "deployment"
-        };
+        // 🚀 Deployment Layer
+        paths.add("deployment");
 
         // Crear todas las carpetas necesarias
         for (String p : paths) {
@@ -50,24 +68,15 @@ public class StructureCreator {
         crearDockerfile(baseDir);
 
         log.info("✅ Estructura base creada con módulos dinámicos: "
-                + adapterName + " y " + entryName);
+                + String.join(", ", servicio.adapterNames()) + " y " + String.join(", ", servicio.entryNames()));
     }
 
     private void crearDockerfile(Path baseDir) throws IOException {
         Path dockerfile = baseDir.resolve("deployment/Dockerfile");
 
-        if (Files.notExists(dockerfile)) {
-            StringBuilder dockerContent = new StringBuilder();
-            dockerContent.append("FROM eclipse-temurin:22-jdk\n")
-                    .append("WORKDIR /app\n")
-                    .append("COPY target/*.jar app.jar\n")
-                    .append("EXPOSE 8080\n")
-                    .append("ENTRYPOINT [\"java\",\"-jar\",\"/app/app.jar\"]\n");
-
-            Files.writeString(dockerfile, dockerContent.toString());
+        // El Dockerfile es del equipo una vez generado, nunca se sobrescribe
+        if (writer.crearSiNoExiste(dockerfile, servicio.perfProfile() ? DOCKERFILE_PERF : DOCKERFILE, contexto)) {
             log.info("🐳 Dockerfile generado en: " + dockerfile.toAbsolutePath());
-        } else {
-            log.info("📦 Dockerfile ya existente, no se sobrescribió.");
         }
     }
-}
\ No newline at end of file
+}
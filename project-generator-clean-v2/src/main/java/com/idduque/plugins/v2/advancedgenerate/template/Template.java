@@ -0,0 +1,193 @@
+package com.idduque.plugins.v2.advancedgenerate.template;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Plantilla compilada: el texto se analiza una sola vez y queda como una lista de segmentos que
+ * se recorre en cada render. Los literales ya están codificados en UTF-8, así que renderizar es
+ * sobre todo copiar bytes al {@link TemplateSink}.
+ * <p>
+ * Sintaxis (un subconjunto de Mustache, sin escapado):
+ * <ul>
+ *     <li>{@code {{nombre}}}: valor del contexto.</li>
+ *     <li>{@code {{#nombre}}...{{/nombre}}}: si el valor es un booleano, el bloque se incluye
+ *     cuando es {@code true}; si es una lista de {@link TemplateContext}, se repite una vez por
+ *     elemento con ese contexto.</li>
+ *     <li>{@code {{^nombre}}...{{/nombre}}}: se incluye cuando el valor es {@code false} o una
+ *     lista vacía.</li>
+ * </ul>
+ * Una etiqueta de bloque sola en su línea no deja esa línea en la salida.
+ * <p>
+ * Es inmutable: una misma instancia se usa desde varios hilos a la vez.
+ */
+public final class Template {
+    private static final String APERTURA = "{{";
+    private static final String CIERRE = "}}";
+
+    private final String nombre;
+    private final List<Segment> segmentos;
+
+    private Template(String nombre, List<Segment> segmentos) {
+        this.nombre = nombre;
+        this.segmentos = segmentos;
+    }
+
+    /**
+     * @throws IllegalArgumentException si hay etiquetas sin cerrar o bloques mal anidados.
+     */
+    public static Template compilar(String nombre, String fuente) {
+        Deque<Bloque> abiertos = new ArrayDeque<>();
+        List<Segment> actual = new ArrayList<>();
+        int pos = 0;
+
+        while (true) {
+            int inicio = fuente.indexOf(APERTURA, pos);
+            if (inicio < 0) {
+                agregarLiteral(actual, fuente.substring(pos));
+                break;
+            }
+            int fin = fuente.indexOf(CIERRE, inicio + APERTURA.length());
+            if (fin < 0) {
+                throw error(nombre, fuente, inicio, "etiqueta sin cerrar");
+            }
+            String etiqueta = fuente.substring(inicio + APERTURA.length(), fin).strip();
+            if (etiqueta.isEmpty() || etiqueta.length() == 1 && "#^/".indexOf(etiqueta.charAt(0)) >= 0) {
+                throw error(nombre, fuente, inicio, "etiqueta vacía");
+            }
+            char tipo = etiqueta.charAt(0);
+            int despues = fin + CIERRE.length();
+            int finLiteral = inicio;
+
+            if (tipo == '#' || tipo == '^' || tipo == '/') {
+                int inicioLinea = fuente.lastIndexOf('\n', inicio - 1) + 1;
+                int finLinea = finDeLinea(fuente, despues);
+                if (finLinea >= 0 && fuente.substring(inicioLinea, inicio).isBlank()) {
+                    finLiteral = inicioLinea;
+                    despues = finLinea;
+                }
+            }
+            agregarLiteral(actual, fuente.substring(pos, finLiteral));
+
+            switch (tipo) {
+                case '#', '^' -> {
+                    abiertos.push(new Bloque(etiqueta.substring(1).strip(), tipo == '^', actual, inicio));
+                    actual = new ArrayList<>();
+                }
+                case '/' -> {
+                    String cerrado = etiqueta.substring(1).strip();
+                    Bloque bloque = abiertos.poll();
+                    if (bloque == null || !bloque.nombre().equals(cerrado)) {
+                        throw error(nombre, fuente, inicio, "cierre inesperado de '" + cerrado + "'");
+                    }
+                    bloque.exterior().add(new Section(bloque.nombre(), bloque.invertida(), List.copyOf(actual)));
+                    actual = bloque.exterior();
+                }
+                default -> actual.add(new Variable(etiqueta));
+            }
+            pos = despues;
+        }
+
+        if (!abiertos.isEmpty()) {
+            Bloque bloque = abiertos.peek();
+            throw error(nombre, fuente, bloque.posicion(), "bloque '" + bloque.nombre() + "' sin cerrar");
+        }
+        return new Template(nombre, List.copyOf(actual));
+    }
+
+    public String nombre() {
+        return nombre;
+    }
+
+    /**
+     * Escribe la plantilla en {@code sink} y lo vacía al terminar.
+     *
+     * @throws IllegalStateException si el contexto no tiene alguno de los valores usados.
+     */
+    public void render(TemplateContext contexto, TemplateSink sink) throws IOException {
+        render(segmentos, contexto, sink);
+        sink.flush();
+    }
+
+    private void render(List<Segment> lista, TemplateContext contexto, TemplateSink sink) throws IOException {
+        for (Segment segmento : lista) {
+            switch (segmento) {
+                case Literal literal -> sink.write(literal.bytes());
+                case Variable variable -> sink.write(
+                        String.valueOf(contexto.valor(variable.nombre())).getBytes(StandardCharsets.UTF_8));
+                case Section seccion -> renderSeccion(seccion, contexto, sink);
+            }
+        }
+    }
+
+    private void renderSeccion(Section seccion, TemplateContext contexto, TemplateSink sink) throws IOException {
+        Object valor = contexto.valor(seccion.nombre());
+        if (valor instanceof Boolean activo) {
+            if (activo != seccion.invertida()) {
+                render(seccion.cuerpo(), contexto, sink);
+            }
+        } else if (valor instanceof List<?> elementos) {
+            if (seccion.invertida()) {
+                if (elementos.isEmpty()) {
+                    render(seccion.cuerpo(), contexto, sink);
+                }
+                return;
+            }
+            for (Object elemento : elementos) {
+                if (!(elemento instanceof TemplateContext hijo)) {
+                    throw new IllegalStateException("Plantilla " + nombre + ": '" + seccion.nombre()
+                            + "' debe ser una lista de TemplateContext");
+                }
+                render(seccion.cuerpo(), hijo, sink);
+            }
+        } else {
+            throw new IllegalStateException("Plantilla " + nombre + ": '" + seccion.nombre()
+                    + "' debe ser un booleano o una lista, no " + valor.getClass().getSimpleName());
+        }
+    }
+
+    private static void agregarLiteral(List<Segment> segmentos, String texto) {
+        if (!texto.isEmpty()) {
+            segmentos.add(new Literal(texto.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    /**
+     * @return posición siguiente al salto de línea si desde {@code desde} solo hay espacios hasta
+     * el fin de línea o del texto; {@code -1} si hay algo más.
+     */
+    private static int finDeLinea(String fuente, int desde) {
+        int i = desde;
+        while (i < fuente.length() && (fuente.charAt(i) == ' ' || fuente.charAt(i) == '\t' || fuente.charAt(i) == '\r')) {
+            i++;
+        }
+        if (i == fuente.length()) {
+            return i;
+        }
+        return fuente.charAt(i) == '\n' ? i + 1 : -1;
+    }
+
+    private static IllegalArgumentException error(String nombre, String fuente, int posicion, String detalle) {
+        long linea = fuente.substring(0, posicion).chars().filter(c -> c == '\n').count() + 1;
+        return new IllegalArgumentException("Plantilla " + nombre + ", línea " + linea + ": " + detalle);
+    }
+
+    private sealed interface Segment permits Literal, Variable, Section {
+    }
+
+    private record Literal(byte[] bytes) implements Segment {
+    }
+
+    private record Variable(String nombre) implements Segment {
+    }
+
+    private record Section(String nombre, boolean invertida, List<Segment> cuerpo) implements Segment {
+    }
+
+    private record Bloque(String nombre, boolean invertida, List<Segment> exterior, int posicion) {
+    }
+}
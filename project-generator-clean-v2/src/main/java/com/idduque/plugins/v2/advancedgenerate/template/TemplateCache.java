@@ -0,0 +1,38 @@
+package com.idduque.plugins.v2.advancedgenerate.template;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Plantillas de {@code /templates} en el classpath del plugin, compiladas la primera vez que se
+ * piden y compartidas por todos los proyectos que se generen en la misma JVM.
+ */
+public final class TemplateCache {
+    private static final String CARPETA = "/templates/";
+    private static final Map<String, Template> PLANTILLAS = new ConcurrentHashMap<>();
+
+    private TemplateCache() {
+    }
+
+    /**
+     * @throws IllegalArgumentException si la plantilla no existe o no compila.
+     */
+    public static Template obtener(String nombre) {
+        return PLANTILLAS.computeIfAbsent(nombre, TemplateCache::cargar);
+    }
+
+    private static Template cargar(String nombre) {
+        try (InputStream entrada = TemplateCache.class.getResourceAsStream(CARPETA + nombre)) {
+            if (entrada == null) {
+                throw new IllegalArgumentException("No existe la plantilla " + CARPETA + nombre);
+            }
+            return Template.compilar(nombre, new String(entrada.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer la plantilla " + nombre, e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.idduque.plugins.v2.advancedgenerate.template;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Valores con los que se renderiza una plantilla. Un contexto hijo ve los valores de su padre, así
+ * que el contexto de un módulo solo agrega lo propio (artifactId, ruta) sobre el del proyecto.
+ * <p>
+ * Se arma completo antes de renderizar y después solo se lee, por lo que puede compartirse entre
+ * hilos.
+ */
+public final class TemplateContext {
+    private final TemplateContext padre;
+    private final Map<String, Object> valores = new HashMap<>();
+
+    private TemplateContext(TemplateContext padre) {
+        this.padre = padre;
+    }
+
+    public static TemplateContext raiz() {
+        return new TemplateContext(null);
+    }
+
+    public TemplateContext hijo() {
+        return new TemplateContext(this);
+    }
+
+    /**
+     * @param valor texto, número, booleano o lista de {@link TemplateContext}.
+     */
+    public TemplateContext con(String nombre, Object valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("Valor nulo para '" + nombre + "'");
+        }
+        valores.put(nombre, valor);
+        return this;
+    }
+
+    /**
+     * @throws IllegalStateException si ni este contexto ni sus padres tienen {@code nombre}.
+     */
+    public Object valor(String nombre) {
+        for (TemplateContext contexto = this; contexto != null; contexto = contexto.padre) {
+            Object valor = contexto.valores.get(nombre);
+            if (valor != null) {
+                return valor;
+            }
+        }
+        throw new IllegalStateException("El contexto no tiene valor para '" + nombre + "'");
+    }
+
+    public String texto(String nombre) {
+        return String.valueOf(valor(nombre));
+    }
+}
@@ -0,0 +1,77 @@
+package com.idduque.plugins.v2.advancedgenerate.template;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.security.MessageDigest;
+
+/**
+ * Destino del render: copia los bytes a un canal (normalmente un {@code FileChannel}) a través de
+ * un buffer fijo y, si se le pasa un {@link MessageDigest}, calcula el hash del contenido al
+ * mismo tiempo. El contenido completo nunca queda en memoria.
+ * <p>
+ * No es thread-safe: uno por archivo.
+ */
+public final class TemplateSink {
+    /**
+     * Alcanza para la mayoría de los archivos generados (1-2 KB) en una sola escritura.
+     */
+    private static final int TAMANO_BUFFER = 2 * 1024;
+
+    private final WritableByteChannel canal;
+    private final ByteBuffer buffer;
+    private final MessageDigest digest;
+
+    private TemplateSink(WritableByteChannel canal, MessageDigest digest) {
+        this.canal = canal;
+        this.buffer = canal == null ? null : ByteBuffer.allocate(TAMANO_BUFFER);
+        this.digest = digest;
+    }
+
+    public static TemplateSink hacia(WritableByteChannel canal) {
+        return new TemplateSink(canal, null);
+    }
+
+    public static TemplateSink hacia(WritableByteChannel canal, MessageDigest digest) {
+        return new TemplateSink(canal, digest);
+    }
+
+    /**
+     * Solo calcula el hash: sirve para saber si un archivo cambió sin escribirlo.
+     */
+    public static TemplateSink soloDigest(MessageDigest digest) {
+        return new TemplateSink(null, digest);
+    }
+
+    public void write(byte[] bytes) throws IOException {
+        if (digest != null) {
+            digest.update(bytes);
+        }
+        if (canal == null) {
+            return;
+        }
+        if (bytes.length > buffer.remaining()) {
+            flush();
+            if (bytes.length > buffer.capacity()) {
+                escribirCompleto(ByteBuffer.wrap(bytes));
+                return;
+            }
+        }
+        buffer.put(bytes);
+    }
+
+    public void flush() throws IOException {
+        if (canal == null || buffer.position() == 0) {
+            return;
+        }
+        buffer.flip();
+        escribirCompleto(buffer);
+        buffer.clear();
+    }
+
+    private void escribirCompleto(ByteBuffer datos) throws IOException {
+        while (datos.hasRemaining()) {
+            canal.write(datos);
+        }
+    }
+}
@@ -1,51 +1,32 @@
 package com.idduque.plugins.v2.advancedgenerate.utils;
 
+import com.idduque.plugins.v2.advancedgenerate.template.Template;
+import com.idduque.plugins.v2.advancedgenerate.template.TemplateCache;
+import com.idduque.plugins.v2.advancedgenerate.template.TemplateContext;
 import org.apache.maven.plugin.logging.Log;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 public class FileUtils {
+    private static final Template MAIN_APPLICATION = TemplateCache.obtener("MainApplication.java.tpl");
+    private static final Template README = TemplateCache.obtener("README.md.tpl");
+
     private final Log log;
+    private final IncrementalFileWriter writer;
 
-    public FileUtils(Log log) {
+    public FileUtils(Log log, IncrementalFileWriter writer) {
         this.log = log;
+        this.writer = writer;
     }
 
-    public static void writeFile(Path filePath, String content, Log log) throws IOException {
-        Files.createDirectories(filePath.getParent());
-        Files.writeString(filePath, content);
-        log.info("📄 Archivo creado: " + filePath);
-    }
-
-    public void crearMainApplication(Path baseDir, String packageBase) throws IOException {
+    public void crearMainApplication(Path baseDir, TemplateContext contexto) throws IOException {
         Path mainFile = baseDir.resolve("applications/app-service/src/main/java/"
-                + packageBase.replace('.', '/') + "/MainApplication.java");
+                + contexto.texto("packageBase").replace('.', '/') + "/MainApplication.java");
 
-        StringBuilder contenido = new StringBuilder();
-        contenido.append("package ").append(packageBase).append(";\n\n")
-                .append("import org.springframework.boot.SpringApplication;\n")
-                .append("import org.springframework.boot.autoconfigure.SpringBootApplication;\n\n")
-                .append("@SpringBootApplication\n")
-                .append("public class MainApplication {\n")
-                .append("    public static void main(String[] args) {\n")
-                .append("        SpringApplication.run(MainApplication.class, args);\n")
-                .append("    }\n")
-                .append("}\n");
-
-        writeFile(mainFile, contenido.toString(), log);
+        writer.escribir(mainFile, MAIN_APPLICATION, contexto);
     }
 
-    public void crearReadme(Path baseDir, String nombreProyecto, String javaVersion) throws IOException {
-        Path readme = baseDir.resolve("README.md");
-
-        StringBuilder contenido = new StringBuilder();
-        contenido.append("# ").append(nombreProyecto).append("\n\n")
-                .append("Proyecto generado automáticamente con **Project Generator Clean**\n\n")
-                .append("📦 Autor: **Iván David Duque Perdomo**\n")
-                .append("🧱 Arquitectura: Clean Architecture (multi-módulo Maven)\n")
-                .append("⚙️ Java: ").append(javaVersion).append("\n");
-
-        writeFile(readme, contenido.toString(), log);
+    public void crearReadme(Path baseDir, TemplateContext contexto) throws IOException {
+        writer.escribir(baseDir.resolve("README.md"), README, contexto);
     }
 }
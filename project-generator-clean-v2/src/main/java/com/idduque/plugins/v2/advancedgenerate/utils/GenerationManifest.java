@@ -0,0 +1,148 @@
+package com.idduque.plugins.v2.advancedgenerate.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de lo que escribió la última generación: por cada archivo, el SHA-256 del contenido y
+ * el tamaño y la fecha de modificación que quedaron en disco. Permite saltar un archivo cuyo
+ * contenido no cambió sin volver a leerlo; si alguien lo editó a mano, el tamaño o la fecha ya no
+ * coinciden y se vuelve a escribir.
+ * <p>
+ * Se guarda en {@value #NOMBRE_ARCHIVO} dentro del directorio base, una línea por archivo.
+ */
+public class GenerationManifest {
+    public static final String NOMBRE_ARCHIVO = ".scaffold-manifest";
+
+    private final Path baseDir;
+    private final Map<String, Entrada> entradas = new ConcurrentHashMap<>();
+    private volatile boolean modificado;
+
+    private GenerationManifest(Path baseDir) {
+        this.baseDir = baseDir.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Manifiesto sin entradas: todo archivo se considera nuevo.
+     */
+    public static GenerationManifest vacio(Path baseDir) {
+        return new GenerationManifest(baseDir);
+    }
+
+    /**
+     * Lee el manifiesto de {@code baseDir}, si existe. Las líneas mal formadas se ignoran: en el
+     * peor caso ese archivo se vuelve a escribir.
+     */
+    public static GenerationManifest cargar(Path baseDir) throws IOException {
+        GenerationManifest manifest = new GenerationManifest(baseDir);
+        Path archivo = manifest.baseDir.resolve(NOMBRE_ARCHIVO);
+        if (Files.notExists(archivo)) {
+            return manifest;
+        }
+        for (String linea : Files.readAllLines(archivo, StandardCharsets.UTF_8)) {
+            String[] campos = linea.split("\t", 4);
+            if (campos.length == 4) {
+                try {
+                    manifest.entradas.put(campos[3],
+                            new Entrada(campos[0], Long.parseLong(campos[1]), Long.parseLong(campos[2])));
+                } catch (NumberFormatException ignored) {
+                    // Se regenera el archivo de esa línea
+                }
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * @return {@code true} si el archivo existe tal como lo dejó una generación con este mismo hash.
+     */
+    public boolean sinCambios(Path archivo, String hash) throws IOException {
+        Entrada entrada = entradas.get(clave(archivo));
+        if (entrada == null || !entrada.hash().equals(hash)) {
+            return false;
+        }
+        try {
+            BasicFileAttributes atributos = Files.readAttributes(archivo, BasicFileAttributes.class);
+            return atributos.size() == entrada.tamano()
+                    && atributos.lastModifiedTime().toMillis() == entrada.modificado();
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Registra un archivo recién escrito con el estado que quedó en disco.
+     */
+    public void registrar(Path archivo, String hash) throws IOException {
+        BasicFileAttributes atributos = Files.readAttributes(archivo, BasicFileAttributes.class);
+        entradas.put(clave(archivo),
+                new Entrada(hash, atributos.size(), atributos.lastModifiedTime().toMillis()));
+        modificado = true;
+    }
+
+    /**
+     * Persiste el manifiesto si hubo cambios, reemplazando el anterior de forma atómica.
+     */
+    public void guardar() throws IOException {
+        if (!modificado) {
+            return;
+        }
+        Files.createDirectories(baseDir);
+        Path temporal = baseDir.resolve(NOMBRE_ARCHIVO + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temporal, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Entrada> entrada : new TreeMap<>(entradas).entrySet()) {
+                Entrada valor = entrada.getValue();
+                writer.write(valor.hash() + "\t" + valor.tamano() + "\t" + valor.modificado() + "\t" + entrada.getKey());
+                writer.newLine();
+            }
+        }
+        Files.move(temporal, baseDir.resolve(NOMBRE_ARCHIVO),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        modificado = false;
+    }
+
+    /**
+     * @return {@code true} si una generación anterior registró este archivo.
+     */
+    public boolean contiene(Path archivo) {
+        return entradas.containsKey(clave(archivo));
+    }
+
+    public static String hash(byte[] contenido) {
+        return hex(nuevoDigest().digest(contenido));
+    }
+
+    /**
+     * Digest del mismo algoritmo que {@link #hash(byte[])}, para calcular el hash por partes.
+     */
+    public static MessageDigest nuevoDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible en esta JVM", e);
+        }
+    }
+
+    public static String hex(byte[] digest) {
+        return HexFormat.of().formatHex(digest);
+    }
+
+    private String clave(Path archivo) {
+        return baseDir.relativize(archivo.toAbsolutePath().normalize()).toString().replace('\\', '/');
+    }
+
+    private record Entrada(String hash, long tamano, long modificado) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.idduque.plugins.v2.advancedgenerate.utils;
+
+import java.io.IOException;
+
+/**
+ * Paso de generación independiente (un POM, una clase, un archivo) que puede ejecutarse en
+ * paralelo con los demás.
+ */
+@FunctionalInterface
+public interface GenerationTask {
+    void ejecutar() throws IOException;
+}
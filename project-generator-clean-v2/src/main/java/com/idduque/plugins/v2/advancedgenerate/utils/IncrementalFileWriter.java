@@ -0,0 +1,102 @@
+package com.idduque.plugins.v2.advancedgenerate.utils;
+
+import com.idduque.plugins.v2.advancedgenerate.template.Template;
+import com.idduque.plugins.v2.advancedgenerate.template.TemplateContext;
+import com.idduque.plugins.v2.advancedgenerate.template.TemplateSink;
+import org.apache.maven.plugin.logging.Log;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Escribe los archivos generados solo si su contenido cambió desde la última generación registrada
+ * en el {@link GenerationManifest}. Puede usarse desde varios hilos a la vez.
+ */
+public class IncrementalFileWriter {
+    private final Log log;
+    private final GenerationManifest manifest;
+    private final LongAdder escritos = new LongAdder();
+    private final LongAdder omitidos = new LongAdder();
+
+    public IncrementalFileWriter(Log log, GenerationManifest manifest) {
+        this.log = log;
+        this.manifest = manifest;
+    }
+
+    public void escribir(Path filePath, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        String hash = GenerationManifest.hash(bytes);
+        if (manifest.sinCambios(filePath, hash)) {
+            omitidos.increment();
+            log.debug("⏭️ Sin cambios: " + filePath);
+            return;
+        }
+        Files.createDirectories(filePath.getParent());
+        Files.write(filePath, bytes);
+        manifest.registrar(filePath, hash);
+        escritos.increment();
+        log.info("📄 Archivo creado: " + filePath);
+    }
+
+    /**
+     * Como {@link #escribir(Path, String)}, pero renderizando la plantilla directo al archivo. Si
+     * el archivo ya estaba en el manifiesto, antes se renderiza solo para calcular el hash y saber
+     * si cambió; en ningún caso el contenido completo queda en memoria.
+     */
+    public void escribir(Path filePath, Template plantilla, TemplateContext contexto) throws IOException {
+        if (manifest.contiene(filePath)) {
+            MessageDigest previo = GenerationManifest.nuevoDigest();
+            plantilla.render(contexto, TemplateSink.soloDigest(previo));
+            if (manifest.sinCambios(filePath, GenerationManifest.hex(previo.digest()))) {
+                omitidos.increment();
+                log.debug("⏭️ Sin cambios: " + filePath);
+                return;
+            }
+        }
+        Files.createDirectories(filePath.getParent());
+        MessageDigest digest = GenerationManifest.nuevoDigest();
+        try (FileChannel canal = FileChannel.open(filePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            plantilla.render(contexto, TemplateSink.hacia(canal, digest));
+        }
+        manifest.registrar(filePath, GenerationManifest.hex(digest.digest()));
+        escritos.increment();
+        log.info("📄 Archivo creado: " + filePath);
+    }
+
+    /**
+     * Para archivos que pasan a ser del equipo una vez generados (Dockerfile, configuración,
+     * benchmarks de ejemplo): se crean solo si no existen y nunca se sobrescriben ni entran al
+     * manifiesto.
+     *
+     * @return {@code true} si el archivo se creó.
+     */
+    public boolean crearSiNoExiste(Path filePath, Template plantilla, TemplateContext contexto) throws IOException {
+        Files.createDirectories(filePath.getParent());
+        try (FileChannel canal = FileChannel.open(filePath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            plantilla.render(contexto, TemplateSink.hacia(canal));
+        } catch (FileAlreadyExistsException e) {
+            omitidos.increment();
+            log.info("📦 Ya existe, no se sobrescribió: " + filePath);
+            return false;
+        }
+        escritos.increment();
+        log.info("📄 Archivo creado: " + filePath);
+        return true;
+    }
+
+    public long escritos() {
+        return escritos.sum();
+    }
+
+    public long omitidos() {
+        return omitidos.sum();
+    }
+}
@@ -0,0 +1,82 @@
+package com.idduque.plugins.v2.advancedgenerate.utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Ejecuta tareas de generación en hilos virtuales: cada archivo espera su propio I/O sin ocupar un
+ * hilo de plataforma.
+ */
+public final class ParallelExecutor {
+
+    private ParallelExecutor() {
+    }
+
+    /**
+     * Ejecuta todas las tareas y espera a que terminen. Si alguna falla, se lanza el primer error y
+     * los demás quedan como suprimidos; las tareas restantes igual se completan.
+     */
+    public static void ejecutarTodas(List<GenerationTask> tareas) throws IOException {
+        ejecutarTodas(tareas, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Como {@link #ejecutarTodas(List)}, pero con a lo sumo {@code maxConcurrentes} tareas en curso;
+     * las demás esperan su turno en orden de llegada.
+     */
+    public static void ejecutarTodas(List<GenerationTask> tareas, int maxConcurrentes) throws IOException {
+        if (maxConcurrentes <= 0) {
+            throw new IllegalArgumentException("maxConcurrentes debe ser mayor que cero: " + maxConcurrentes);
+        }
+        Semaphore permisos = new Semaphore(maxConcurrentes, true);
+        List<Future<?>> pendientes = new ArrayList<>(tareas.size());
+        IOException error = null;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (GenerationTask tarea : tareas) {
+                pendientes.add(executor.submit(() -> {
+                    permisos.acquire();
+                    try {
+                        tarea.ejecutar();
+                        return null;
+                    } finally {
+                        permisos.release();
+                    }
+                }));
+            }
+            for (Future<?> pendiente : pendientes) {
+                try {
+                    pendiente.get();
+                } catch (ExecutionException e) {
+                    IOException causa = comoIOException(e.getCause());
+                    if (error == null) {
+                        error = causa;
+                    } else {
+                        error.addSuppressed(causa);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Generación interrumpida", e);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private static IOException comoIOException(Throwable causa) {
+        if (causa instanceof IOException io) {
+            return io;
+        }
+        if (causa instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        return new IOException(causa);
+    }
+}
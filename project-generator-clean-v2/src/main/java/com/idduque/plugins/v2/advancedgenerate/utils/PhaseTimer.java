@@ -0,0 +1,47 @@
+package com.idduque.plugins.v2.advancedgenerate.utils;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Acumula el tiempo de cada fase de la generación para reportarlo al final.
+ */
+public class PhaseTimer {
+    private final Map<String, Long> fases = new LinkedHashMap<>();
+
+    public void medir(String fase, GenerationTask tarea) throws IOException {
+        long inicio = System.nanoTime();
+        try {
+            tarea.ejecutar();
+        } finally {
+            registrar(fase, inicio);
+        }
+    }
+
+    /**
+     * Registra el tiempo transcurrido desde {@code inicioNanos} ({@link System#nanoTime()}).
+     */
+    public void registrar(String fase, long inicioNanos) {
+        fases.merge(fase, System.nanoTime() - inicioNanos, Long::sum);
+    }
+
+    public long totalNanos() {
+        return fases.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * @return algo como {@code estructura 2 ms · archivos 9 ms · total 11 ms}.
+     */
+    public String resumen() {
+        return fases.entrySet().stream()
+                .map(fase -> fase.getKey() + " " + milis(fase.getValue()))
+                .collect(Collectors.joining(" · ", "", " · total " + milis(totalNanos())));
+    }
+
+    private static String milis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos) + " ms";
+    }
+}
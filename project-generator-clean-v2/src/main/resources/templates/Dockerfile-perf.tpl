@@ -0,0 +1,29 @@
+# Construir desde la raíz del proyecto, después de mvn package:
+#   docker build -f deployment/Dockerfile -t {{nombreProyecto}} .
+
+# 1. Separa el jar de Spring Boot en capas: las dependencias cambian poco y quedan en caché
+FROM eclipse-temurin:{{javaVersion}}-jre AS builder
+WORKDIR /builder
+COPY applications/app-service/target/*.jar application.jar
+RUN java -Djarmode=tools -jar application.jar extract --layers --destination extracted
+
+# 2. Imagen final: capas de menos a más cambiante y entrenamiento del archivo CDS
+FROM eclipse-temurin:{{javaVersion}}-jre
+WORKDIR /app
+RUN useradd --system --uid 1001 app
+COPY --from=builder /builder/extracted/dependencies/ ./
+COPY --from=builder /builder/extracted/spring-boot-loader/ ./
+COPY --from=builder /builder/extracted/snapshot-dependencies/ ./
+COPY --from=builder /builder/extracted/application/ ./
+
+# Heap relativo al límite de memoria del contenedor (la JVM ya detecta cgroups) y salida
+# inmediata ante OutOfMemoryError para que el orquestador reinicie el pod
+ENV JAVA_TOOL_OPTIONS="-XX:InitialRAMPercentage=50.0 -XX:MaxRAMPercentage=75.0 -XX:+ExitOnOutOfMemoryError"
+
+# Arranca el contexto una vez y guarda las clases cargadas en application.jsa; las próximas
+# ejecuciones las toman del archivo y arrancan más rápido
+RUN java -XX:ArchiveClassesAtExit=application.jsa -Dspring.context.exit=onRefresh -jar application.jar
+
+USER app
+EXPOSE 8080
+ENTRYPOINT ["java","-XX:SharedArchiveFile=application.jsa","-jar","application.jar"]
@@ -0,0 +1,5 @@
+FROM eclipse-temurin:22-jdk
+WORKDIR /app
+COPY target/*.jar app.jar
+EXPOSE 8080
+ENTRYPOINT ["java","-jar","/app/app.jar"]
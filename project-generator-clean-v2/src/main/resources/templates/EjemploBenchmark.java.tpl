@@ -0,0 +1,61 @@
+package {{packageBase}}.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de ejemplo: reemplázalo por los casos de uso de {{nombreProyecto}} que quieras medir.
+ * <pre>
+ * mvn -q package
+ * java -jar benchmarks/target/benchmarks.jar EjemploBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EjemploBenchmark {
+
+    @Param({"16", "1024"})
+    int elementos;
+
+    private String[] palabras;
+
+    @Setup
+    public void setUp() {
+        palabras = new String[elementos];
+        for (int i = 0; i < elementos; i++) {
+            palabras[i] = "palabra-" + i;
+        }
+    }
+
+    @Benchmark
+    public String concatenarConStringBuilder() {
+        StringBuilder resultado = new StringBuilder();
+        for (String palabra : palabras) {
+            if (!resultado.isEmpty()) {
+                resultado.append(',');
+            }
+            resultado.append(palabra);
+        }
+        return resultado.toString();
+    }
+
+    @Benchmark
+    public String concatenarConJoin() {
+        return String.join(",", palabras);
+    }
+}
@@ -0,0 +1,7 @@
+# {{nombreProyecto}}
+
+Proyecto generado automáticamente con **Project Generator Clean**
+
+📦 Autor: **Iván David Duque Perdomo**
+🧱 Arquitectura: Clean Architecture (multi-módulo Maven)
+⚙️ Java: {{javaVersion}}
@@ -0,0 +1,21 @@
+spring:
+  application:
+    name: {{nombreProyecto}}
+
+management:
+  endpoints:
+    web:
+      exposure:
+        include: health,info,metrics,prometheus
+  endpoint:
+    health:
+      # /actuator/health/liveness y /actuator/health/readiness para las sondas del contenedor
+      probes:
+        enabled: true
+  metrics:
+    tags:
+      application: ${spring.application.name}
+    distribution:
+      # Histogramas para p50/p95/p99 en el backend sin calcular percentiles en la JVM
+      percentiles-histogram:
+        http.server.requests: true
@@ -0,0 +1,70 @@
+<project xmlns="http://maven.apache.org/POM/4.0.0" xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:schemaLocation="http://maven.apache.org/POM/4.0.0 http://maven.apache.org/xsd/maven-4.0.0.xsd">
+  <modelVersion>4.0.0</modelVersion>
+  <parent>
+    <groupId>{{packageBase}}</groupId>
+    <artifactId>{{nombreProyecto}}</artifactId>
+    <version>1.0.0</version>
+    <relativePath>{{relativePath}}</relativePath>
+  </parent>
+
+  <artifactId>{{artifactId}}</artifactId>
+  <packaging>jar</packaging>
+
+{{#esAppService}}
+  <dependencies>
+    <dependency>
+      <groupId>org.springframework.boot</groupId>
+      <artifactId>spring-boot-starter</artifactId>
+      <version>{{springBootVersion}}</version>
+    </dependency>
+    {{#perfProfile}}
+    <!-- Servidor HTTP para exponer /actuator -->
+    <dependency>
+      <groupId>org.springframework.boot</groupId>
+      <artifactId>spring-boot-starter-webflux</artifactId>
+      <version>{{springBootVersion}}</version>
+    </dependency>
+    <dependency>
+      <groupId>org.springframework.boot</groupId>
+      <artifactId>spring-boot-starter-actuator</artifactId>
+      <version>{{springBootVersion}}</version>
+    </dependency>
+    <dependency>
+      <groupId>io.micrometer</groupId>
+      <artifactId>micrometer-registry-prometheus</artifactId>
+    </dependency>
+    {{/perfProfile}}
+    <dependency>
+      <groupId>org.springframework.boot</groupId>
+      <artifactId>spring-boot-starter-test</artifactId>
+      <version>{{springBootVersion}}</version>
+      <scope>test</scope>
+    </dependency>
+  </dependencies>
+
+  <build>
+    <plugins>
+      <plugin>
+        <groupId>org.springframework.boot</groupId>
+        <artifactId>spring-boot-maven-plugin</artifactId>
+        <version>{{springBootVersion}}</version>
+        {{#perfProfile}}
+        <!-- Jar ejecutable con capas (layers.idx) que usa el Dockerfile -->
+        <executions>
+          <execution>
+            <goals>
+              <goal>repackage</goal>
+            </goals>
+          </execution>
+        </executions>
+        {{/perfProfile}}
+      </plugin>
+    </plugins>
+  </build>
+{{/esAppService}}
+{{^esAppService}}
+  <dependencies>
+    <!-- Dependencias específicas del módulo -->
+  </dependencies>
+{{/esAppService}}
+</project>